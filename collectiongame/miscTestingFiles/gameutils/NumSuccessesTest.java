@@ -0,0 +1,45 @@
+package gameutils;
+
+/**
+ * Checks that numSuccesses has the mean (trials*p) and variance (trials*p*(1-p)) of that many calls to testPercentChance,
+ * for both small trials*p (where it skips between successes) and large trials*p (where it uses the normal approximation),
+ * and for chances above and below 50%. Chances of 0 and 100% must always give 0 and every trial.
+ */
+public class NumSuccessesTest {
+	private static final int REPEATS = 200000;
+	private static final long[] TRIALS = {1, 5, 20, 100, 1000, 100000};
+	private static final double[] PERCENT_CHANCES = {.01, 1, 10, 29, 50, 75, 99.5};
+	public static void main(final String... strings) {
+		final RandomStream random = new RandomStream(42);
+		int failures = 0;
+		for (final long trials : TRIALS) {
+			if (GameUtils.numSuccesses(random, trials, 0) != 0 || GameUtils.numSuccesses(random, trials, 100) != trials) {
+				failures++;
+				System.out.println("FAIL trials=" + trials + ": 0% or 100% chance didn't give 0 or every trial");
+			}
+			for (final double percentChance : PERCENT_CHANCES) {
+				final double p = percentChance / 100;
+				final double mean = trials * p;
+				final double variance = trials * p * (1 - p);
+				double sum = 0;
+				double sumSquares = 0;
+				for (int i = 0; i < REPEATS; i++) {
+					final long x = GameUtils.numSuccesses(random, trials, percentChance);
+					sum += x;
+					sumSquares += (double) x * x;
+				}
+				final double sampleMean = sum / REPEATS;
+				final double sampleVariance = (sumSquares - REPEATS * sampleMean * sampleMean) / (REPEATS - 1);
+				//within 5 standard errors. The standard error of a sample variance is about variance * sqrt(2/n), plus a term
+				//for the skew of small n*p, and rounding the normal approximation adds up to 1/12 to the variance
+				final boolean ok = Math.abs(sampleMean - mean) < 5 * Math.sqrt(variance / REPEATS)
+						&& Math.abs(sampleVariance - variance) < 5 * Math.sqrt((2 * variance * variance + variance) / REPEATS) + 1.0 / 12;
+				if (!ok)
+					failures++;
+				System.out.printf("%s trials=%d p=%.4f | expected mean %.4f var %.4f | numSuccesses mean %.4f var %.4f%n",
+						ok ? "PASS" : "FAIL", trials, p, mean, variance, sampleMean, sampleVariance);
+			}
+		}
+		System.out.println(failures == 0 ? "ALL PASSED" : failures + " FAILED");
+	}
+}
@@ -0,0 +1,59 @@
+package loaders;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import gui.guiutils.GuiUtils;
+
+/**
+ * Checks the values CSVReader decodes and splits a line into, for lines that cover each escape (including escapes cut
+ * in half by a delimiter), empty values at the end of a line and split limits. Each line is read in place of every line
+ * of XPLookup.csv using modifyLineBy. ", " and ":" are split on without regex and "\\|" with it, so both ways of
+ * splitting are checked. Run from the collectiongame directory.
+ */
+public class CSVReaderTest {
+	private static final String PATH = "/InputFiles/XPLookup.csv";
+	private static int numLines;
+	private static boolean passed = true;
+	public static void main(final String... strings) throws IOException {
+		numLines = CSVReader.readCSV(PATH).size();
+		final String money = GuiUtils.getMoneySymbol();
+		check("a|b^c,<q>d<q>,MONEY_SYMBOL5", ",", 0, "a,b\nc", "\"d\"", money + "5");
+		check("<q,<,q>,MONEY_SYMBO,L", ",", 0, "<q", "<", "q>", "MONEY_SYMBO", "L");
+		check("x<q>,MONEY_SYMBOL,MONEY_SYMBOLMONEY_SYMBOL", ",", 0, "x\"", money, money + money);
+		check("a,,b,,", ",", 0, "a", "", "b");
+		check("a,,b,,", ",", -1, "a", "", "b", "", "");
+		check("a,,b,,", ",", 2, "a", ",b,,");
+		check(",,,", ",", 0);
+		check("", ",", 0, "");
+		check("a:b:c:,d;e;;", ":", 3, "a", "b", "c:,d;e;;");
+		check("X, a , b ,", ", ", 0, "X", "a ", "b ,");
+		check("||,^^,", "\\|", 0, "", "", ",\n\n,");
+		check("a|b|", "\\|", -1, "a", "b", "");
+		final int withoutFirst = CSVReader.readCSV(PATH, true).size();
+		if (withoutFirst != numLines - 1) {
+			passed = false;
+			System.out.println("FAIL: ignoring the first line read " + withoutFirst + " rows of " + numLines);
+		}
+		System.out.println(passed ? "PASS" : "FAILED");
+	}
+	/**
+	 * Reads the provided line in place of every line of the file, and checks every row is the expected values
+	 */
+	private static void check(final String line, final String splitBy, final int splitLimit, final String... expected) throws IOException {
+		final List<String[]> rows = CSVReader.readCSV(PATH, x -> line, splitBy, splitLimit, false);
+		if (rows.size() != numLines) {
+			passed = false;
+			System.out.println("FAIL: \"" + line + "\" read " + rows.size() + " rows, expected " + numLines);
+			return;
+		}
+		for (final String[] row : rows) {
+			if (!Arrays.equals(row, expected)) {
+				passed = false;
+				System.out.println("FAIL: \"" + line + "\" split by \"" + splitBy + "\" limit " + splitLimit + " was " + Arrays.toString(row) + ", expected " + Arrays.toString(expected));
+				return;
+			}
+		}
+	}
+}
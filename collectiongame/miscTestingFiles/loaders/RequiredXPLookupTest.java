@@ -0,0 +1,82 @@
+package loaders;
+
+import java.util.Random;
+
+import thingFramework.ExperienceGroup;
+
+/**
+ * Checks that the level tables of RequiredXPLookup agree with each other for every ExperienceGroup: the min xp of each
+ * level is a level boundary, the xp to the next level from base is the gap between boundaries, and updateLevels gives
+ * the same levels as getLevelFromCurrentXP (and counts the ones it changed), whether a level starts right (the fast path),
+ * one off or anywhere at all
+ */
+public class RequiredXPLookupTest {
+	public static void main(final String... strings) {
+		final RequiredXPLookup lookup = RequiredXPLookup.getInstance();
+		final int lastLevel = lookup.getLastLevel();
+		int wrong = 0;
+		for (final ExperienceGroup eg : ExperienceGroup.values()) {
+			for (int level = 1; level <= lastLevel; level++) {
+				final int minXP = lookup.getMinXPAtLevel(eg, level);
+				if (lookup.getLevelFromCurrentXP(eg, minXP) != level || (level > 1 && lookup.getLevelFromCurrentXP(eg, minXP - 1) != level - 1)) {
+					wrong++;
+					System.out.println("FAIL: " + eg + " level " + level + " doesn't start at " + minXP + " xp");
+				}
+				final int toNext = level == lastLevel ? 0 : lookup.getMinXPAtLevel(eg, level + 1) - minXP;
+				if (lookup.getAmountOfXPToNextLevelFromBase(eg, level) != toNext || lookup.getAmountOfXPToNextLevel(eg, minXP) != toNext) {
+					wrong++;
+					System.out.println("FAIL: " + eg + " level " + level + " xp to next level isn't " + toNext);
+				}
+			}
+			final int level100XP = lookup.getLevel100XP(eg);
+			if (lookup.getLevelFromCurrentXP(eg, level100XP * 2) != lastLevel) {
+				wrong++;
+				System.out.println("FAIL: " + eg + " xp past level 100 isn't level 100");
+			}
+			final Random random = new Random(eg.ordinal());
+			final int count = 10000;
+			final int[] xps = new int[count];
+			final int[] levels = new int[count];
+			final int[] expected = new int[count];
+			for (int i = 0; i < count; i++) {
+				xps[i] = random.nextInt(level100XP + 1000);
+				expected[i] = lookup.getLevelFromCurrentXP(eg, xps[i]);
+				switch (i % 3) {
+				case 0:
+					levels[i] = expected[i];
+					break;
+				case 1:
+					levels[i] = Math.max(1, expected[i] - 1);
+					break;
+				default:
+					levels[i] = 1 + random.nextInt(lastLevel);
+				}
+			}
+			int expectedChanged = 0;
+			for (int i = 0; i < count; i++) {
+				if (levels[i] != expected[i])
+					expectedChanged++;
+			}
+			final int changed = lookup.updateLevels(eg, xps, levels, count);
+			if (changed != expectedChanged) {
+				wrong++;
+				System.out.println("FAIL: " + eg + " updateLevels said " + changed + " levels changed, expected " + expectedChanged);
+			}
+			for (int i = 0; i < count; i++) {
+				if (levels[i] != expected[i]) {
+					wrong++;
+					System.out.println("FAIL: " + eg + " updateLevels gave level " + levels[i] + " at " + xps[i] + " xp, expected " + expected[i]);
+					break;
+				}
+			}
+		}
+		try {
+			lookup.getLevelFromCurrentXP(ExperienceGroup.values()[0], -1);
+			wrong++;
+			System.out.println("FAIL: negative xp didn't throw");
+		} catch (final IllegalArgumentException e) {
+			// expected
+		}
+		System.out.println(wrong == 0 ? "PASS" : wrong + " FAILED");
+	}
+}
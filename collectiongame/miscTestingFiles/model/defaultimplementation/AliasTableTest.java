@@ -0,0 +1,57 @@
+package model.defaultimplementation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import attributes.AttributeName;
+import loaders.ThingFactory;
+import loaders.ThingType;
+
+/**
+ * Checks that the alias table finds each non legendary creature in proportion to its chance (100 - rarity), using a chi
+ * squared test over many samples, and never finds a legendary or a creature with no chance
+ */
+public class AliasTableTest {
+	private static final int SAMPLES = 5000000;
+	public static void main(final String... strings) {
+		final BoardWildCreatureGenerator generator = new BoardWildCreatureGenerator(new Board());
+		final Map<String, Integer> rarities = ThingFactory.getInstance().mapFromSetToAttributeValue(AttributeName.RARITY, ThingType.CREATURE);
+		final Set<String> legendaries = ThingFactory.getInstance().getThingsWithAttributeVal(AttributeName.IS_LEGENDARY, true, ThingType.CREATURE);
+		final Map<String, Integer> chances = new HashMap<String, Integer>();
+		long totalChance = 0;
+		for (final Map.Entry<String, Integer> entry : rarities.entrySet()) {
+			if (!legendaries.contains(entry.getKey())) {
+				chances.put(entry.getKey(), 100 - entry.getValue());
+				totalChance += 100 - entry.getValue();
+			}
+		}
+		final Map<String, Integer> counts = new HashMap<String, Integer>();
+		for (int i = 0; i < SAMPLES; i++)
+			counts.merge(generator.findNextCreatureName(), 1, Integer::sum);
+		boolean passed = true;
+		for (final String name : counts.keySet()) {
+			if (!chances.containsKey(name) || chances.get(name) == 0) {
+				passed = false;
+				System.out.println("FAIL: found " + name + " which isn't a non legendary creature with a chance of being found");
+			}
+		}
+		int degreesOfFreedom = -1;
+		double chiSquared = 0;
+		for (final Map.Entry<String, Integer> entry : chances.entrySet()) {
+			final double expected = (double) SAMPLES * entry.getValue() / totalChance;
+			if (expected > 0) {
+				degreesOfFreedom++;
+				chiSquared += Math.pow(counts.getOrDefault(entry.getKey(), 0) - expected, 2) / expected;
+			}
+		}
+		//chi squared has mean df and standard deviation sqrt(2df) when the counts fit the chances
+		final double limit = degreesOfFreedom + 5 * Math.sqrt(2 * degreesOfFreedom);
+		System.out.println("Creatures: " + chances.size() + ", degrees of freedom: " + degreesOfFreedom + ", chi squared: " + chiSquared);
+		if (chiSquared >= limit) {
+			passed = false;
+			System.out.println("FAIL: chi squared above " + limit);
+		}
+		System.out.println(passed ? "PASS" : "FAILED");
+	}
+}
@@ -30,14 +30,15 @@ public class Attribute<T> implements Serializable, DisplayMethods {
 	 */
 	Attribute(final ParseType<T> parseType) {this.parseType = parseType;}
 	/**
-	 * Creates a new Attribute by copying over from another older Attribute
+	 * Creates a new Attribute by copying over from another older Attribute. The AttributeCharacteristicSet is never changed
+	 * once an Attribute has been created, and so is shared with the old Attribute.
 	 * @param oldAttribute the old Attribute to copy from
 	 */
 	protected Attribute(final Attribute<T> oldAttribute) {
 		this(oldAttribute.parseType);
 		setValue(oldAttribute.value);
 		setDefaultValue(oldAttribute.defaultValue);
-		setAttributeCharacteristicSet(oldAttribute.atttributeCharacteristicSet.makeCopy());
+		setAttributeCharacteristicSet(oldAttribute.atttributeCharacteristicSet);
 		setIsPositiveFunction(oldAttribute.isPositive);
 		setName(oldAttribute.name);
 		setExtraDescription(oldAttribute.getExtraDescription());
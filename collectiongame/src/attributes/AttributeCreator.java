@@ -15,7 +15,7 @@ interface AttributeCreator<T> {
 	 * @param attributeName the templateAttribute name
 	 * @return If a valid attributeName, an AttributeTemplate<T> with the specified templateAttribute.
 	 */
-	AttributeTemplate<T> getAttributeTemplate(String attributeName);
+	AttributeTemplate<T> getAttributeTemplate(AttributeName<?> attributeName);
 
 
 	/**
@@ -23,7 +23,7 @@ interface AttributeCreator<T> {
 	 * @param attributeName the templateAttribute name to lookup
 	 * @return true if this is a valid, creatable templateAttribute for this AttributeCreator<T>
 	 */
-	boolean containsAttributeTemplate(String attributeName);
+	boolean containsAttributeTemplate(AttributeName<?> attributeName);
 	/**
 	 * A wrapper for an Attribute<T> that only allows one to create new copies, leaving the original template unchanged
 	 * @author David O'Sullivan
@@ -45,7 +45,8 @@ interface AttributeCreator<T> {
 			return new AttributeTemplate<T>(templateAttribute);
 		}
 		/**
-		 * @return a new copy of the Attribute<T> that this AttributeTemplate<T> has
+		 * @return a new copy of the Attribute<T> that this AttributeTemplate<T> has. The copy shares all of the
+		 * template's unchanging details (characteristics, display settings, etc.) rather than having its own.
 		 */
 		public Attribute<T> newCopy() {
 			return templateAttribute.makeCopy();
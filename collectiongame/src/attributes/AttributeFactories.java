@@ -130,7 +130,7 @@ final class AttributeFactories {
 	}
 	/**
 	 * A parameterized class that serves both to create new Attribute templates (AttributeCreator<T>), and also to 
-	 * create a AttributeManagerMap<T> of the specified type (ManagerMapCreator<T>). 
+	 * create AttributeMap<T>s of the specified type for AttributeManagers (ManagerMapCreator<T>). 
 	 * This doubling up of uses isn't great, however the alternative led to a lack of type-safety, so I elected for
 	 * this instead.
 	 * @author David O'Sullivan
@@ -139,14 +139,18 @@ final class AttributeFactories {
 	 */
 	private final class AttributeFactory<T> implements AttributeCreator<T>, ManagerMapCreator<T> {
 		private final ParseType<T> parseType;
-		private final Map<String, Attribute<T>> attributeTemplates = new HashMap<String, Attribute<T>>();
-		private final AttributeManagerMap<T> attributeManagerMap;
+		/**
+		 * The AttributeTemplate for each AttributeName of this factory's type, indexed by the AttributeName's slot. 
+		 * Every Attribute generated with a given name is made from the same AttributeTemplate.
+		 */
+		private final AttributeTemplate<T>[] attributeTemplates;
 		private SerializableFunction<T, Boolean> isPositive = x -> false;
 		
+		@SuppressWarnings("unchecked")
 		private AttributeFactory(final ParseType<T> parseType) {
 			this.parseType = parseType;
+			attributeTemplates = (AttributeTemplate<T>[]) new AttributeTemplate<?>[AttributeName.getNumberOfSlots(parseType)];
 			parseType.setAssociatedMapCreator(this);
-			attributeManagerMap = new AttributeManagerMap<T>(parseType, this);
 			finishFactorySetup(this);
 		}	
 		private AttributeFactory(final ParseType<T> parseType, final SerializableFunction<T, Boolean> isPositive) {
@@ -165,34 +169,41 @@ final class AttributeFactories {
 		 */
 		
 		/** 
-		 * @see attributes.ManagerMapCreator#getManagerMap()
+		 * @see attributes.ManagerMapCreator#getParseType()
+		 */
+		@Override
+		public ParseType<T> getParseType() {
+			return parseType;
+		}
+		/** 
+		 * @see attributes.ManagerMapCreator#createAttributeMap(attributes.AttributeManager)
 		 */
 		@Override
-		public AttributeManagerMap<T> getManagerMap() {
-			return attributeManagerMap;
+		public AttributeMapInterface<T> createAttributeMap(final AttributeManager manager) {
+			return new AttributeMap<T>(manager, parseType, this);
 		}
 		/** 
-		 * @see attributes.AttributeCreator#getAttributeTemplate(java.lang.String)
+		 * @see attributes.AttributeCreator#getAttributeTemplate(attributes.AttributeName)
 		 */
 		@Override
-		public AttributeTemplate<T> getAttributeTemplate(final String attributeName) {
+		public AttributeTemplate<T> getAttributeTemplate(final AttributeName<?> attributeName) {
 			throwIfInvalidTemplate(attributeName);
-			return AttributeTemplate.generateTemplate(attributeTemplates.get(attributeName));
+			return attributeTemplates[attributeName.getSlot()];
 		}
 		/** 
-		 * @see attributes.AttributeCreator#containsAttributeTemplate(java.lang.String)
+		 * @see attributes.AttributeCreator#containsAttributeTemplate(attributes.AttributeName)
 		 */
 		@Override
-		public boolean containsAttributeTemplate(final String attributeName) {
-			return attributeTemplates.containsKey(attributeName);
+		public boolean containsAttributeTemplate(final AttributeName<?> attributeName) {
+			return attributeName.getType().equals(parseType) && attributeTemplates[attributeName.getSlot()] != null;
 		}
 		
 		/*
 		 * Private methods
 		 */
 		
-		private void throwIfInvalidTemplate(final String attributeName) {
-			if (!attributeTemplates.containsKey(attributeName))
+		private void throwIfInvalidTemplate(final AttributeName<?> attributeName) {
+			if (!containsAttributeTemplate(attributeName))
 				throw new AttributeNotFoundException(attributeName + "is not a valid Attribute");
 		}
 		private void createNewAttributeTemplate(final String name, final String[] values) {
@@ -208,7 +219,7 @@ final class AttributeFactories {
 				attribute = generateBasicAttributeTemplate(values);
 			}
 			attribute.setName(name);
-			attributeTemplates.put(name, attribute);
+			attributeTemplates[AttributeName.getAttributeName(name, parseType).getSlot()] = AttributeTemplate.generateTemplate(attribute);
 			factoryMapByNameOfAttributeTemplate.put(name, this);
 		}
 		
@@ -4,8 +4,12 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Consumer;
@@ -21,13 +25,12 @@ import interfaces.SerializablePredicate;
  * of multiple different types, with no need for casting.
  * 
  * <p> The way the AttributeManager works, is that the AttributeFactories class contains a ManagerMapCreator for each
- * Attribute type (these types are enumerated in the ParseType class). When a AttributeManager is created, it goes through each ManagerMapCreator, and adds itself to each of their
- * AttributeManagerMaps. This in turn creates an AttributeMap of each Attribute Type specifically for this AttributeManager.
- * When the AttributeManager wants to access an attribute. It first gets the appropriate AttributeManagerMap through the use of a
- * ParseType, and then gets the AttributeMap stored for it in that AttributeManagerMap. 
+ * Attribute type (these types are enumerated in the ParseType class). When a AttributeManager is created, it goes through each ManagerMapCreator, and 
+ * has it create an AttributeMap of that Attribute Type specifically for this AttributeManager. The AttributeManager holds on to these maps itself, 
+ * in a slot for each ParseType, so nothing outside of it keeps it reachable once it is no longer used.
+ * When the AttributeManager wants to access an attribute, it gets the AttributeMap in the slot of the attribute's ParseType. 
  * @see AttributeFactories
  * @see Attribute
- * @see AttributeManagerMap
  * @see AttributeMap
  * @see ParseType
  * @see ManagerMapCreator
@@ -40,21 +43,50 @@ public class AttributeManager implements Serializable {
 	 */
 	private static final long serialVersionUID = 1L;
 	private SerializablePredicate<Attribute<?>> validate;
+	/**
+	 * The AttributeMap of each ParseType, indexed by the ordinal of the ParseType's associated enum
+	 */
+	private transient AttributeMapInterface<?>[] attributeMaps;
 	private String currentDescription = "";
+	/**
+	 * false if an attribute was changed since currentDescription was last built
+	 */
+	private transient boolean descriptionUpToDate = false;
+	/**
+	 * Incremented whenever the description may have changed, so that callers can tell whether a description they
+	 * already have is out of date without building a new one
+	 */
+	private transient volatile long descriptionVersion = 0;
+	/**
+	 * false if an attribute was generated/removed since attributesInOrder was last built
+	 */
+	private transient boolean orderUpToDate = false;
+	private transient List<Attribute<?>> attributesInOrder;
+	/**
+	 * The rendered description of each attribute. An attribute's entry is removed when it changes, and
+	 * only re-rendered when the description is next needed.
+	 */
+	private transient Map<Attribute<?>, String> fragments;
 	/**
 	 * Creates a new, empty AttributeManager
 	 */
 	public AttributeManager() {
-		performOnAllMapCreators(mc -> mc.getManagerMap().addNewManager(this));
+		createAttributeMaps();
 	}
 	/**
-	 * copies all the attributes managed by the old AttributeManager to this AttributeManager
+	 * copies all the attributes managed by the old AttributeManager to this AttributeManager. Each attribute is copied
+	 * directly from the old one, and the old AttributeManager's description is reused rather than being built again.
 	 * @param old the old AttributeManager
 	 */
 	public void copyOverFromOldManager(final AttributeManager old) {
-		performOnAllMapCreators(mc -> mc.getManagerMap().copyManagerToNewManager(old, this));
+		performOnAllMapCreators(mc -> copyMap(mc, old));
 		setAttributeValidation(old.validate);
-		this.currentDescription = old.currentDescription;
+		final String description = old.toString();
+		synchronized (this) {
+			this.currentDescription = description;
+			descriptionUpToDate = true;
+			descriptionVersion++;
+		}
 	}
 	/**
 	 * Sets the validation predicate that should be used by this AttributeManager. When an attribute is generated,
@@ -87,8 +119,8 @@ public class AttributeManager implements Serializable {
 	public void generateAttribute(final AttributeName<?> attributeName) {
 		if (containsAttribute(attributeName))
 			throw new IllegalArgumentException("Attribute " + attributeName + "already exists");
-		getAttributeMap(attributeName).generateAttribute(attributeName.getName());
-		updateDescription();
+		getAttributeMap(attributeName).generateAttribute(attributeName);
+		invalidateOrder();
 
 	}
 	/**
@@ -99,8 +131,8 @@ public class AttributeManager implements Serializable {
 	public void removeAttribute(final AttributeName<?> attributeName) {
 		if (!containsAttribute(attributeName))
 			throw new IllegalArgumentException("Attribute " + attributeName + " not present");
-		getAttributeMap(attributeName).removeAttribute(attributeName.getName());
-		updateDescription();
+		getAttributeMap(attributeName).removeAttribute(attributeName);
+		invalidateOrder();
 
 
 	}
@@ -153,8 +185,8 @@ public class AttributeManager implements Serializable {
 	 * @param type the associated ParseType
 	 */
 	public <T> void setAttributeValue(final AttributeName<T> attributeName, final T value) {
-		getAttributeMap(attributeName.getType()).setAttributeValue(attributeName.getName(), value);
-		updateDescription();
+		getAttributeMap(attributeName.getType()).setAttributeValue(attributeName, value);
+		invalidateFragment(getAttribute(attributeName));
 	}
     /**
      * Set the value of the specified attribute of this AttributeManager 
@@ -162,8 +194,8 @@ public class AttributeManager implements Serializable {
      * @param value the string representation of the new value for attribute
      */
     public void setAttributeValue(final AttributeName<?> attributeName, final String value) {
-    		getAttributeMap(attributeName).setAttributeValue(attributeName.getName(), value);
-    		updateDescription();
+    		getAttributeMap(attributeName).setAttributeValue(attributeName, value);
+    		invalidateFragment(getAttribute(attributeName));
 	}
 	/**
 	 * Generates multiple attributes, and parses values, setting the values of the generated attributes on a 1-to-1 basis 
@@ -229,7 +261,7 @@ public class AttributeManager implements Serializable {
 	 * @return true if an attribute of that name has been generated for this AttributeManager
 	 */
 	public boolean containsAttribute(final AttributeName<?> attributeName) {
-		return getAttributeMap(attributeName).containsAttribute(attributeName.getName());
+		return getAttributeMap(attributeName).containsAttribute(attributeName);
 	}
 	private Set<Attribute<?>> getAllAttributesInOrder() {
 		final Set<Attribute<?>> allAttributes = new TreeSet<Attribute<?>>((a1, a2) -> {
@@ -245,19 +277,58 @@ public class AttributeManager implements Serializable {
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
-	public String toString() {
+	public synchronized String toString() {
+		if (!descriptionUpToDate)
+			updateDescription();
 		return currentDescription;
 	}
+	/**
+	 * Returns a number that changes whenever the description (toString()) of this AttributeManager may have changed.
+	 * Doesn't build the description.
+	 * @return the current version of the description
+	 */
+	public long getDescriptionVersion() {
+		return descriptionVersion;
+	}
+	/**
+	 * Rebuilds currentDescription, only re-rendering the attributes that changed since the last time
+	 */
 	private void updateDescription() {
+		if (fragments == null)
+			fragments = new IdentityHashMap<Attribute<?>, String>();
+		if (!orderUpToDate) {
+			attributesInOrder = new ArrayList<Attribute<?>>(getAllAttributesInOrder());
+			fragments.keySet().retainAll(attributesInOrder);
+			orderUpToDate = true;
+		}
 		final StringBuilder result = new StringBuilder();
 		String newline = "";  
-		for (final Attribute<?> at: getAllAttributesInOrder()) {
+		for (final Attribute<?> at: attributesInOrder) {
 			if (at.shouldDisplay()) {
-				result.append(newline).append(at.toString());
+				result.append(newline).append(fragments.computeIfAbsent(at, Attribute::toString));
 			    newline = "\n";
 			}
 		}
 		currentDescription =  result.toString();
+		descriptionUpToDate = true;
+	}
+	/**
+	 * Marks the description as needing to be rebuilt, with attributes in a new order
+	 */
+	private synchronized void invalidateOrder() {
+		orderUpToDate = false;
+		descriptionUpToDate = false;
+		descriptionVersion++;
+	}
+	/**
+	 * Marks the provided attribute as needing to be re-rendered the next time the description is needed
+	 * @param attribute the attribute that changed
+	 */
+	private synchronized void invalidateFragment(final Attribute<?> attribute) {
+		if (fragments != null)
+			fragments.remove(attribute);
+		descriptionUpToDate = false;
+		descriptionVersion++;
 	}
 	/**
 	 * Sets the extra description of the attribute of the given name managed by this AttributeManager
@@ -265,8 +336,11 @@ public class AttributeManager implements Serializable {
 	 * @param extraDescription the value to set that attributes extra description to 
 	 */
 	public void setAttributeExtraDescription(final AttributeName<?> attributeName, final String extraDescription) {
-		getAttribute(attributeName).setExtraDescription(extraDescription);
-		updateDescription();
+		final Attribute<?> attribute = getAttribute(attributeName);
+		if (Objects.equals(extraDescription, attribute.getExtraDescription()))
+			return;
+		attribute.setExtraDescription(extraDescription);
+		invalidateFragment(attribute);
 	}
 	/**
 	 * checks whether the attribute with the given name managed by this AttributeManager has a value equal
@@ -290,7 +364,6 @@ public class AttributeManager implements Serializable {
 		final AttributeManager manager = new AttributeManager();
 		manager.generateAttribute(attributeName, attributeValue);
 		final String result = manager.getAttribute(attributeName).getDisplayString(GameUtils.arrayToEnumSet(displayStringSettings, DisplayStringSetting.class));
-		attributeName.getType().getMapCreator().getManagerMap().removeManager(manager);
 		return result;
 	}
 	
@@ -307,8 +380,8 @@ public class AttributeManager implements Serializable {
 
 	private void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject(); 
+		createAttributeMaps();
 		performOnAllMapCreators(mc -> {
-			mc.getManagerMap().addNewManager(this);
 			try {
 				getAttributeMap(mc).readObject(ois);
 			} catch (ClassNotFoundException | IOException e) {
@@ -322,20 +395,25 @@ public class AttributeManager implements Serializable {
 		for (final ManagerMapCreator<?> mapCreator: AttributeFactories.getInstance().getManagerMapCreatorList())
 			consumer.accept(mapCreator);
 	}
+	private void createAttributeMaps() {
+		attributeMaps = new AttributeMapInterface<?>[ParseTypeEnum.values().length];
+		performOnAllMapCreators(mc -> attributeMaps[mc.getParseType().getAssociatedEnum().ordinal()] = mc.createAttributeMap(this));
+	}
+	private <T> void copyMap(final ManagerMapCreator<T> mapCreator, final AttributeManager old) {
+		old.getAttributeMap(mapCreator).copyToNewMap(getAttributeMap(mapCreator));
+	}
+	@SuppressWarnings("unchecked")
 	private <T> AttributeMapInterface<T> getAttributeMap(final ParseType<T> type) {
-		return type.getMapCreator().getManagerMap().getMap(this);
+		return (AttributeMapInterface<T>) attributeMaps[type.getAssociatedEnum().ordinal()];
 	}
 	private AttributeMapInterface<?> getAttributeMap(final AttributeName<?> attributeName) {
-		return getAttributeMap(attributeName.getName());
-	}
-	private AttributeMapInterface<?> getAttributeMap(final String attributeName) {
-		return AttributeFactories.getInstance().getManagerMapCreatorOfAttribute(attributeName).getManagerMap().getMap(this);
+		return getAttributeMap(attributeName.getType());
 	}
 	private <T> AttributeMapInterface<T> getAttributeMap(final ManagerMapCreator<T> mapCreator) {
-		return mapCreator.getManagerMap().getMap(this);
+		return getAttributeMap(mapCreator.getParseType());
 	}
 	private <T> Attribute<T> getAttribute(final AttributeName<T> attribute) {
-		return getAttributeMap(attribute.getType()).getAttribute(attribute.getName());
+		return getAttributeMap(attribute.getType()).getAttribute(attribute);
 	}
 	
 	
@@ -24,9 +24,17 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	private final AttributeManager manager;
 	private transient final ParseType<T> parseType;
 	private final AttributeCreator<T> attributeCreator;
-	private  Map<String, Attribute<T>> attributes = new HashMap<String, Attribute<T>>();
+	/**
+	 * The generated attributes, indexed by the slot of their AttributeName. This is only created once the first 
+	 * attribute is generated, so that maps for types a Thing doesn't use take up no extra space.
+	 */
+	private Attribute<T>[] attributes;
+	private int numAttributes = 0;
 	private SerializableConsumer<Attribute<T>> doOnGeneration;
-	private List<AttributeManagerObserver<T>> attributeObserver = new ArrayList<AttributeManagerObserver<T>>();
+	/**
+	 * Only created once the first observer is added
+	 */
+	private List<AttributeManagerObserver<T>> attributeObserver;
 	/**
 	 * Creates a new AttributeMap.
 	 * @param manager the Manager associated with this map
@@ -43,9 +51,12 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	 */
 	@Override
 	public void writeObject(final ObjectOutputStream oos) throws IOException {
-		oos.writeObject(attributes);
+		final Map<String, Attribute<T>> attributeMap = new HashMap<String, Attribute<T>>();
+		for (final Attribute<T> attribute : getAllAttributes())
+			attributeMap.put(attribute.getName(), attribute);
+		oos.writeObject(attributeMap);
 		oos.writeObject(doOnGeneration);
-		oos.writeObject(attributeObserver);
+		oos.writeObject(attributeObserver == null ? new ArrayList<AttributeManagerObserver<T>>() : attributeObserver);
 	}
 
 	/** 
@@ -54,12 +65,16 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	public void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
-		attributes = (Map<String, Attribute<T>>) ois.readObject();
-		for (final Attribute<T> attribute : attributes.values()) {
-			attribute.setParseType(parseType);
+		final Map<String, Attribute<T>> attributeMap = (Map<String, Attribute<T>>) ois.readObject();
+		attributes = null;
+		numAttributes = 0;
+		for (final Map.Entry<String, Attribute<T>> entry : attributeMap.entrySet()) {
+			entry.getValue().setParseType(parseType);
+			putAttribute(AttributeName.getAttributeName(entry.getKey(), parseType), entry.getValue());
 		}
 		doOnGeneration = (SerializableConsumer<Attribute<T>>) ois.readObject();
-		attributeObserver =   (List<AttributeManagerObserver<T>>) ois.readObject();
+		final List<AttributeManagerObserver<T>> observers = (List<AttributeManagerObserver<T>>) ois.readObject();
+		attributeObserver = observers.isEmpty() ? null : observers;
 		
 	}
 	
@@ -68,6 +83,8 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	 */
 	@Override
 	public void addNewObserver(final AttributeManagerObserver<T> watcher) {
+		if (attributeObserver == null)
+			attributeObserver = new ArrayList<AttributeManagerObserver<T>>();
 		attributeObserver.add(watcher);	
 	}
 	/**
@@ -75,17 +92,26 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	 * @param name the name of the attribute
 	 * @param attribute the attribute
 	 */
-	private void addAttribute(final String name, final Attribute<T> attribute) {
-		attributes.put(name, attribute);
-		attributeObserver.forEach(amw -> amw.onAttributeGenerated(attribute));
+	private void addAttribute(final AttributeName<?> name, final Attribute<T> attribute) {
+		putAttribute(name, attribute);
+		if (attributeObserver != null)
+			attributeObserver.forEach(amw -> amw.onAttributeGenerated(attribute));
+	}
+	@SuppressWarnings("unchecked")
+	private void putAttribute(final AttributeName<?> name, final Attribute<T> attribute) {
+		if (attributes == null)
+			attributes = (Attribute<T>[]) new Attribute<?>[AttributeName.getNumberOfSlots(parseType)];
+		if (attributes[name.getSlot()] == null)
+			numAttributes++;
+		attributes[name.getSlot()] = attribute;
 	}
 	/** 
-	 * @see attributes.AttributeMapInterface#generateAttribute(java.lang.String)
+	 * @see attributes.AttributeMapInterface#generateAttribute(attributes.AttributeName)
 	 */
 	@Override
-	public Attribute<T> generateAttribute(final String name) {
+	public Attribute<T> generateAttribute(final AttributeName<?> name) {
 		throwIfInvalidTemplate(name);
-		if (attributes.containsKey(name))
+		if (hasAttribute(name))
 			throw new IllegalArgumentException(name + "attribute already exists for manager:" + manager);
 		final Attribute<T> attribute = attributeCreator.getAttributeTemplate(name).newCopy();
 		attribute.setValueToDefault();
@@ -96,49 +122,54 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	}
 
 	/** 
-	 * @see attributes.AttributeMapInterface#getAttribute(java.lang.String)
+	 * @see attributes.AttributeMapInterface#getAttribute(attributes.AttributeName)
 	 */
 	@Override
-	public Attribute<T> getAttribute(final String name) {
+	public Attribute<T> getAttribute(final AttributeName<?> name) {
 		throwIfInvalidTemplate(name);
-		if (!attributes.containsKey(name)) {
+		if (!hasAttribute(name)) {
 			throw new AttributeNotFoundException(name + " is a valid attribute, however it has not been generated for this manager (" + manager + ")");
 		}
-		return attributes.get(name);
+		return attributes[name.getSlot()];
 	}
 
 	/** 
-	 * @see attributes.AttributeMapInterface#removeAttribute(java.lang.String)
+	 * @see attributes.AttributeMapInterface#removeAttribute(attributes.AttributeName)
 	 */
 	@Override
-	public void removeAttribute(final String name) {
+	public void removeAttribute(final AttributeName<?> name) {
 		throwIfInvalidTemplate(name);
-		if (!attributes.containsKey(name)) {
+		if (!hasAttribute(name)) {
 			throw new AttributeNotFoundException(name + " is a valid attribute, however it has not been generated for this manager (" + manager + ")");
 		}
-		final Attribute<T> removedAttribute = attributes.remove(name);
-		attributeObserver.forEach(amw -> amw.onAttributeRemoved(removedAttribute));
+		final Attribute<T> removedAttribute = attributes[name.getSlot()];
+		attributes[name.getSlot()] = null;
+		numAttributes--;
+		if (attributeObserver != null)
+			attributeObserver.forEach(amw -> amw.onAttributeRemoved(removedAttribute));
 		
 	}
 	/** 
-	 * @see attributes.AttributeMapInterface#setAttributeValue(java.lang.String, java.lang.Object)
+	 * @see attributes.AttributeMapInterface#setAttributeValue(attributes.AttributeName, java.lang.Object)
 	 */
 	@Override
-	public void setAttributeValue(final String name, final T value) {
+	public void setAttributeValue(final AttributeName<T> name, final T value) {
 		final Attribute<T> attribute = getAttribute(name);
 		attribute.setValue(value);
-		attributeObserver.forEach(amw -> amw.onAttributeValueChanged(attribute));
+		if (attributeObserver != null)
+			attributeObserver.forEach(amw -> amw.onAttributeValueChanged(attribute));
 		
 	}
 
 	/** 
-	 * @see attributes.AttributeMapInterface#setAttributeValue(java.lang.String, java.lang.String)
+	 * @see attributes.AttributeMapInterface#setAttributeValue(attributes.AttributeName, java.lang.String)
 	 */
 	@Override
-	public void setAttributeValue(final String name, final String value) {
+	public void setAttributeValue(final AttributeName<?> name, final String value) {
 		final Attribute<T> attribute = getAttribute(name);
 		attribute.setValueParse(value);
-		attributeObserver.forEach(amw -> amw.onAttributeValueChanged(attribute));
+		if (attributeObserver != null)
+			attributeObserver.forEach(amw -> amw.onAttributeValueChanged(attribute));
 		
 	}
 
@@ -156,18 +187,28 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	 */
 	@Override
 	public Collection<Attribute<T>> getAllAttributes() {
-		return Collections.unmodifiableCollection(attributes.values());
+		if (numAttributes == 0)
+			return Collections.emptyList();
+		final List<Attribute<T>> allAttributes = new ArrayList<Attribute<T>>(numAttributes);
+		for (final Attribute<T> attribute : attributes) {
+			if (attribute != null)
+				allAttributes.add(attribute);
+		}
+		return Collections.unmodifiableList(allAttributes);
 	}
 
 	/** 
-	 * @see attributes.AttributeMapInterface#containsAttribute(java.lang.String)
+	 * @see attributes.AttributeMapInterface#containsAttribute(attributes.AttributeName)
 	 */
 	@Override
-	public boolean containsAttribute(final String name) {
-		return attributeCreator.containsAttributeTemplate(name) && attributes.containsKey(name);
+	public boolean containsAttribute(final AttributeName<?> name) {
+		return attributeCreator.containsAttributeTemplate(name) && hasAttribute(name);
 
 	}
-	private void throwIfInvalidTemplate(final String attributeName) {
+	private boolean hasAttribute(final AttributeName<?> name) {
+		return attributes != null && attributes[name.getSlot()] != null;
+	}
+	private void throwIfInvalidTemplate(final AttributeName<?> attributeName) {
 		if (!attributeCreator.containsAttributeTemplate(attributeName))
 			throw new AttributeNotFoundException(attributeName + "is not a valid attribute");
 	}
@@ -176,12 +217,24 @@ public class AttributeMap<T> implements AttributeMapInterface<T> {
 	 */
 	@Override
 	public void copyToNewMap(final AttributeMapInterface<T> attributeMap) {
-		for (final Map.Entry<String, Attribute<T>> entry: attributes.entrySet()) {
-			attributeMap.generateAttribute(entry.getKey());
-			attributeMap.setAttributeValue(entry.getKey(), entry.getValue().getValue());
+		for (final Attribute<T> attribute : getAllAttributes()) {
+			attributeMap.addCopyOf(attribute);
 		}
 		
 	}
+	/** 
+	 * @see attributes.AttributeMapInterface#addCopyOf(attributes.Attribute)
+	 */
+	@Override
+	public void addCopyOf(final Attribute<T> attribute) {
+		final AttributeName<T> name = AttributeName.getAttributeName(attribute.getName(), parseType);
+		if (hasAttribute(name))
+			throw new IllegalArgumentException(name + "attribute already exists for manager:" + manager);
+		final Attribute<T> copy = attribute.makeCopy();
+		addAttribute(name, copy);
+		if (doOnGeneration != null)
+			doOnGeneration.accept(copy);
+	}
 
 	
 
@@ -25,6 +25,12 @@ interface AttributeMapInterface<T> {
 	 * @param attributeMap the AttributeMapInterface<T> to copy to
 	 */
 	void copyToNewMap(final AttributeMapInterface<T> attributeMap);
+	/**
+	 * Adds a copy of the provided Attribute, with the same value and extra description, to this map. Observers are
+	 * notified of the copy once it has its value.
+	 * @param attribute the Attribute to copy
+	 */
+	void addCopyOf(final Attribute<T> attribute);
 	/**
 	 * Initializes data from an ObjectInputStream, must have written data out with writeObject
 	 * @param ois the ObjectInputStream to get data from
@@ -42,30 +48,30 @@ interface AttributeMapInterface<T> {
 	 * @param name the name of the attribute
 	 * @return the generated attribute
 	 */
-	Attribute<T> generateAttribute(final String name);
+	Attribute<T> generateAttribute(final AttributeName<?> name);
 	/**
 	 * Returns an  Attribute that was previously generated for this map with the provided name
 	 * @param name the name of the attribute
 	 * @return the  Attribute
 	 */
-	Attribute<T> getAttribute(final String name);
+	Attribute<T> getAttribute(final AttributeName<?> name);
 	/**
 	 * Removes an Attribute that was previously generated for this map 
 	 * @param name the name of the Attribute to remove
 	 */
-	void removeAttribute(final String name);
+	void removeAttribute(final AttributeName<?> name);
 	/**
 	 * Sets the value of an  Attribute that was already generated with the provided value
 	 * @param name the name of the Attribute
 	 * @param value the value to set the attribute to 
 	 */
-	void setAttributeValue(final String name, final T value);
+	void setAttributeValue(final AttributeName<T> name, final T value);
 	/**
 	 * Sets the value of an Attribute that was already generated with the provided value
 	 * @param name the name of the Attribute
 	 * @param value the String representation of the value
 	 */
-	void setAttributeValue(final String name, final String value);
+	void setAttributeValue(final AttributeName<?> name, final String value);
 	/**
 	 * Sets the doOnGeneration for this AttributeMap. Every Attribute<T> generated by this map will have
 	 * doOnGeneration called on them after generation
@@ -82,5 +88,5 @@ interface AttributeMapInterface<T> {
 	 * @param name the name of the attribute
 	 * @return true if this AttributeMap contains an attribute of that name
 	 */
-	boolean containsAttribute(final String name);
+	boolean containsAttribute(final AttributeName<?> name);
 }
@@ -2,6 +2,8 @@ package attributes;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,16 +101,27 @@ public final class AttributeName<T> implements Serializable {
 	public static final AttributeName<List<?>> NEXT_EVOLUTIONS = new AttributeName<>("next evolutions", ParseType.LIST);
 	private final String name;
 	private transient final ParseType<T> parseType;
+	/**
+	 * The index of this AttributeName among all AttributeNames of the same ParseType. Used to store attributes of
+	 * a particular type in an array rather than a map.
+	 */
+	private transient final int slot;
 	/**
 	 * A map from the string name of all valid attributes to the parse type
 	 */
 	private static Map<String, ParseType<?>> validAttributes;
 	private static Map<String, AttributeName<?>> attributeNameMap;
+	/**
+	 * A map from each ParseType to the number of AttributeNames of that type
+	 */
+	private static Map<ParseType<?>, Integer> slotCounts;
 	private AttributeName(final String name, final ParseType<T> parseType) {
 		this.name = name;
 		this.parseType = parseType;
+		this.slot = getNumberOfSlots(parseType);
 		getValidAttributes().put(name, parseType);
 		getAttributeNameMap().put(name, this);
+		getSlotCounts().put(parseType, slot + 1);
 	}
 	private static Map<String, ParseType<?>> getValidAttributes() {
 		if (validAttributes == null)
@@ -120,6 +133,11 @@ public final class AttributeName<T> implements Serializable {
 			attributeNameMap = new HashMap<String, AttributeName<?>>();
 		return attributeNameMap;
 	}
+	private static Map<ParseType<?>, Integer> getSlotCounts() {
+		if (slotCounts == null)
+			slotCounts = new HashMap<ParseType<?>, Integer>();
+		return slotCounts;
+	}
 	/**
 	 * @return the string representation of this AttributeName 
 	 */
@@ -132,6 +150,29 @@ public final class AttributeName<T> implements Serializable {
 	ParseType<T> getType() {
 		return parseType;
 	}
+	/**
+	 * Parses the provided string into a value of this AttributeName's type
+	 * @param value the string representation of the value
+	 * @return the parsed value
+	 */
+	public T parseValue(final String value) {
+		return AttributeValueParser.getInstance().parseValue(value, parseType);
+	}
+	/**
+	 * @return the index of this AttributeName among all AttributeNames of the same ParseType
+	 */
+	int getSlot() {
+		return slot;
+	}
+	/**
+	 * Returns the number of AttributeNames of the provided ParseType. Every AttributeName of that type has a 
+	 * slot less than this.
+	 * @param type the ParseType
+	 * @return the number of AttributeNames of the provided ParseType
+	 */
+	static int getNumberOfSlots(final ParseType<?> type) {
+		return getSlotCounts().getOrDefault(type, 0);
+	}
 	/**
 	 * Returns true if the provided name and parseType correspond to a defined AttributeName
 	 * @param name the name of the Attribute
@@ -141,6 +182,13 @@ public final class AttributeName<T> implements Serializable {
 	static boolean isValidAttribute(final String name, final ParseType<?> type) {
 		return validAttributes.containsKey(name) && validAttributes.get(name).equals(type);
 	}
+	/**
+	 * Returns every AttributeName
+	 * @return an unmodifiable collection of every AttributeName
+	 */
+	public static Collection<AttributeName<?>> getAllAttributeNames() {
+		return Collections.unmodifiableCollection(getAttributeNameMap().values());
+	}
 	/**
 	 * Returns the AttributeName<?> with the provided String name
 	 * @param name the name of the AttributeName<?>
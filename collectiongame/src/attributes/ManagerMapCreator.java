@@ -1,18 +1,24 @@
 package attributes;
 
 /**
- * A class implementing this interface holds on to an AttributeManagerMap of a particular type
+ * A class implementing this interface creates AttributeMaps of a particular type for an AttributeManager
  * @author David O'Sullivan
  *
- * @param <T> the type of the attribute in the AttributeManagerMap
- * @see AttributeManagerMap
+ * @param <T> the type of the attribute in the created AttributeMaps
+ * @see AttributeMap
  */
 interface ManagerMapCreator<T> {
 
 	/**
-	 * Returns the AttributeManagerMap<T> that this ManagerMapCreator<T> is holding on to
-	 * @return the AttributeManagerMap<T> that this ManagerMapCreator<T> is holding on to
+	 * Returns the ParseType of the AttributeMaps this ManagerMapCreator<T> creates
+	 * @return the ParseType of the AttributeMaps this ManagerMapCreator<T> creates
 	 */
-	AttributeManagerMap<T> getManagerMap();
+	ParseType<T> getParseType();
+	/**
+	 * Creates a new, empty AttributeMapInterface<T> owned by the provided manager
+	 * @param manager the AttributeManager that will own the map
+	 * @return the new AttributeMapInterface<T>
+	 */
+	AttributeMapInterface<T> createAttributeMap(AttributeManager manager);
 
-}
\ No newline at end of file
+}
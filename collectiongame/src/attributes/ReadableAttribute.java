@@ -19,7 +19,7 @@ class ReadableAttribute<T> extends Attribute<T> {
 	private static final long serialVersionUID = 1L;
 	private String displayName = "";
 	private boolean isVisible;
-	private final EnumSet<Setting> settings;
+	private EnumSet<Setting> settings;
 	private int displayRank = -1;
 	private SerializableFunction<String, String> formatDisplay = x -> {return x;};
 	/**
@@ -45,14 +45,15 @@ class ReadableAttribute<T> extends Attribute<T> {
 		this.displayName = displayName;
 	}
 	/**
-	 * Creates a new ReadableAttribute by copying over from an old ReadableAttribute
+	 * Creates a new ReadableAttribute by copying over from an old ReadableAttribute. The settings are 
+	 * shared with the old ReadableAttribute until they are next changed.
 	 * @param attribute the old ReadableAttribute
 	 */
 	protected ReadableAttribute(final ReadableAttribute<T> attribute) {
 		super(attribute);
 		this.displayName = attribute.displayName;
 		this.isVisible =  attribute.isVisible;
-		this.settings = EnumSet.copyOf(attribute.settings);
+		this.settings = attribute.settings;
 		this.displayRank = attribute.displayRank;
 		this.objectToIgnoreValueAt = attribute.objectToIgnoreValueAt;
 		this.formatDisplay = attribute.formatDisplay;
@@ -154,9 +155,11 @@ class ReadableAttribute<T> extends Attribute<T> {
 	 */
 	public void parseAndSetSettings(final String settings, final String delimeter) {
 		final String[] settingsList = settings.split(delimeter);
+		final EnumSet<Setting> newSettings = EnumSet.copyOf(this.settings);
 		for (final String setting : settingsList) {
-			this.settings.add(Setting.valueOf(setting.trim().toUpperCase()));
+			newSettings.add(Setting.valueOf(setting.trim().toUpperCase()));
 		}
+		this.settings = newSettings;
 	}
 	/** 
 	 * @see attributes.DisplayMethods#getDisplayRank()
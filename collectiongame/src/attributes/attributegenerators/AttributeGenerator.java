@@ -1,12 +1,14 @@
 package attributes.attributegenerators;
 
+import gameutils.RandomStream;
 import thingFramework.Creature;
 import thingFramework.Item;
 
 /**
  * Instead of manually specifing the attributes of creatures/items, they can be generated using an 
  * AttributeGenerator. Implementors of this interface, need to define how attributes should be generated given
- * a particular creature/item.
+ * a particular creature/item. Generators may be run more than once on the same creature/item (e.g. with different
+ * random numbers for each board), so should replace any attributes they generated before.
  * @author David O'Sullivan
  *
  */
@@ -14,11 +16,13 @@ public interface AttributeGenerator {
 	/**
 	 * Adds the generated attributes to this creature
 	 * @param c the Creature to add the generated attributes to 
+	 * @param random the random numbers to generate the attributes from
 	 */
-	public void addAttributes(Creature c);
+	public void addAttributes(Creature c, RandomStream random);
 	/**
 	 * Adds the generated attributes to this item
 	 * @param i the Item to add the generated attributes to
+	 * @param random the random numbers to generate the attributes from
 	 */
-	public void addAttributes(Item i);
+	public void addAttributes(Item i, RandomStream random);
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import attributes.AttributeName;
 import attributes.AttributeNotFoundException;
 import gameutils.GameUtils;
+import gameutils.RandomStream;
 import thingFramework.Creature;
 import thingFramework.Item;
 
@@ -18,11 +19,12 @@ import thingFramework.Item;
 class AttributeGeneratorFromRarity implements AttributeGenerator{
 
 	/** 
-	 * Sets the gpm, gph, popularity, and happiness using functions based solely on this creature's rarity
-	 * @see attributes.attributegenerators.AttributeGenerator#addAttributes(thingFramework.Creature)
+	 * Sets the gpm, gph, popularity, and happiness using functions based solely on this creature's rarity, replacing any
+	 * values they already have
+	 * @see attributes.attributegenerators.AttributeGenerator#addAttributes(thingFramework.Creature, gameutils.RandomStream)
 	 */
 	@Override
-	public void addAttributes(final Creature c) {
+	public void addAttributes(final Creature c, final RandomStream random) {
 			if (!c.containsAttribute(AttributeName.RARITY))
 				throw new IllegalArgumentException("Creature " + c +  "does not have a metric for rarity");
 			int rarity = 0;
@@ -33,20 +35,25 @@ class AttributeGeneratorFromRarity implements AttributeGenerator{
 			}
 			final List<AttributeName<Integer>> attributes = new ArrayList<AttributeName<Integer>>();
 			Collections.addAll(attributes, AttributeName.GPM, AttributeName.GPH, AttributeName.POPULARITY, AttributeName.HAPPINESS);
-			final Integer[] values = {calcGPM(rarity), calcGPH(rarity),calcPopularity(rarity), calcHappiness(rarity)};
-			c.addAttributes(attributes, values);
+			final Integer[] values = {calcGPM(random, rarity), calcGPH(random, rarity),calcPopularity(random, rarity), calcHappiness(rarity)};
+			for (int i = 0; i < attributes.size(); i++) {
+				if (c.containsAttribute(attributes.get(i)))
+					c.setAttributeValue(attributes.get(i), values[i]);
+				else
+					c.addAttribute(attributes.get(i), values[i]);
+			}
 		
 	}
 
 	/** 
 	 * Does not add any attributes
-	 * @see attributes.attributegenerators.AttributeGenerator#addAttributes(thingFramework.Item)
+	 * @see attributes.attributegenerators.AttributeGenerator#addAttributes(thingFramework.Item, gameutils.RandomStream)
 	 */
 	@Override
-	public void addAttributes(final Item i) {
+	public void addAttributes(final Item i, final RandomStream random) {
 		//Nothing
 	}
-	private int calcGPM(final int rarity) {
+	private int calcGPM(final RandomStream random, final int rarity) {
 		if (rarity < 70)
 			return 0;
 		double percentChance = 0;
@@ -54,26 +61,26 @@ class AttributeGeneratorFromRarity implements AttributeGenerator{
 			percentChance = rarity-10;
 		else
 			percentChance = rarity-5;
-		if (!GameUtils.testPercentChance(percentChance))
+		if (!GameUtils.testPercentChance(random, percentChance))
 			return 0;
-		if (GameUtils.testPercentChance(1) && rarity > 90)
+		if (GameUtils.testPercentChance(random, 1) && rarity > 90)
 			return 9;
 		if (rarity < 86)
-			return GameUtils.testPercentChance(30) ? 2 : 1;
+			return GameUtils.testPercentChance(random, 30) ? 2 : 1;
 		else if (rarity < 99)
-			return GameUtils.testPercentChance(40) ? 3 : 2;
+			return GameUtils.testPercentChance(random, 40) ? 3 : 2;
 		else 
-			return GameUtils.testPercentChance(50) ? 5 : 3;
+			return GameUtils.testPercentChance(random, 50) ? 5 : 3;
 	}
 	
-	private int calcGPH(final int rarity) {
-		if (rarity == 99 && GameUtils.testPercentChance(2))
+	private int calcGPH(final RandomStream random, final int rarity) {
+		if (rarity == 99 && GameUtils.testPercentChance(random, 2))
 			return 60;
 		return 5*(int)Math.log(rarity);
 		
 	}
-	private int calcPopularity(final int rarity) {
-		final int modifier = rarity == 99 ? 10 : (GameUtils.testPercentChance(20) ? 3 : 0);
+	private int calcPopularity(final RandomStream random, final int rarity) {
+		final int modifier = rarity == 99 ? 10 : (GameUtils.testPercentChance(random, 20) ? 3 : 0);
 		return (int)Math.pow(rarity, .7) + modifier;
 	}
 	private int calcHappiness(final int rarity) {
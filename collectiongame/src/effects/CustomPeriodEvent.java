@@ -85,6 +85,14 @@ public class CustomPeriodEvent extends Event {
 			}
 		};
 	}
+	/** 
+	 * The period of this event depends on the state of the model, so it has to be checked every tick
+	 * @see effects.Event#millisUntilNextPeriod(model.ModelInterface)
+	 */
+	@Override
+	protected long millisUntilNextPeriod(final ModelInterface model) {
+		return 0;
+	}
 	/** 
 	 * @see effects.Event#makeCopy()
 	 */
@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import gameutils.GameUtils;
+import interfaces.SerializableBiConsumer;
 import interfaces.SerializableConsumer;
 import model.ModelInterface;
 import thingFramework.Thing;
@@ -25,19 +26,28 @@ public class Event implements Serializable {
 	private SerializableConsumer<ModelInterface> onPeriod = x -> {};
 	private SerializableConsumer<ModelInterface> onRemove =  x -> {};
 	private SerializableConsumer<ModelInterface> onTick = x -> {};
+	private SerializableBiConsumer<ModelInterface, Long> onMultiplePeriods = null;
 	private double period = -1; //period in minutes
 	private long timeCreated;
 	private long inGameTimeCreated;
 	private volatile long numPeriodsElapsed = 0;
 	private boolean isPeriodic = false;
 	private volatile AtomicBoolean onPlaceExecuted =new AtomicBoolean(false);
-	private final boolean keepTrackWhileOff = false;
+	private boolean keepTrackWhileOff = false;
 	private final static double MIN_PERIOD = .01;
 	private String name = "Event ";
 	private boolean shouldBeRemoved = false;
 	private boolean shouldBeReset = false;
 	private SerializableConsumer<ModelInterface> newOnRemove = null;
 	private Thing creator;
+	/**
+	 * True while onTick is still the default no-op, so the EventManager never has to visit this event every tick
+	 */
+	private boolean onTickIsNoOp = true;
+	/**
+	 * The EventManager currently scheduling this event, null if it isn't on the model
+	 */
+	private transient EventManager manager;
 	/**
 	 * Creates a new event that does nothing to the boad
 	 */
@@ -142,6 +152,9 @@ public class Event implements Serializable {
 	 */
 	protected Event(final Event oldEvent) {
 		this(oldEvent.onPlace, oldEvent.onPeriod, oldEvent.onRemove, oldEvent.onTick, oldEvent.period);
+		onTickIsNoOp = oldEvent.onTickIsNoOp;
+		onMultiplePeriods = oldEvent.onMultiplePeriods;
+		keepTrackWhileOff = oldEvent.keepTrackWhileOff;
 	}
 	private synchronized void runOnPlace(final ModelInterface model) {
 		if (!onPlaceExecuted()) {
@@ -170,25 +183,26 @@ public class Event implements Serializable {
 		return onPlaceExecuted.get();
 	}
 	/**
-	 * Executes the onPeriod consumer if it should
+	 * Executes the onPeriod consumer if it should. If more than one period has elapsed (e.g. the game was closed 
+	 * and this event keeps track while off, or the update thread stalled) and this event has an onMultiplePeriods 
+	 * consumer, all the elapsed periods are settled at once. Otherwise at most one period is executed per call.
 	 */
 	private synchronized void executeIfTime(final ModelInterface model) {
-		if (!keepTrackWhileOff) {
-			if (hasPeriodicity() && (long) (GameUtils.millisAsMinutes(model.getTotalInGameTime()-inGameTimeCreated) / period) > numPeriodsElapsed) {
-				if (DEBUG)
-					System.out.println("perioddontkeeptrackwhile off from " + this);
-				onPeriod.accept(model);
-				numPeriodsElapsed++;
-			}
+		if (!hasPeriodicity())
+			return;
+		final long timeAlive = keepTrackWhileOff ? model.getTotalTimeSinceStart()-timeCreated : model.getTotalInGameTime()-inGameTimeCreated;
+		final long periodsDue = (long) (GameUtils.millisAsMinutes(timeAlive) / period) - numPeriodsElapsed;
+		if (periodsDue <= 0)
+			return;
+		if (DEBUG)
+			System.out.println((keepTrackWhileOff ? "periodkeeptrackwhile off from " : "perioddontkeeptrackwhile off from ") + this);
+		if (periodsDue > 1 && onMultiplePeriods != null) {
+			onMultiplePeriods.accept(model, periodsDue);
+			numPeriodsElapsed += periodsDue;
 		}
 		else {
-			if (hasPeriodicity() && (long) (GameUtils.millisAsMinutes(model.getTotalTimeSinceStart()-timeCreated) / period) > numPeriodsElapsed) {
-				if (DEBUG)
-					System.out.println("periodkeeptrackwhile off from " + this);
-				onPeriod.accept(model);
-				numPeriodsElapsed++;
-			}
-
+			onPeriod.accept(model);
+			numPeriodsElapsed++;
 		}
 	}
 	/**
@@ -220,6 +234,7 @@ public class Event implements Serializable {
 		{
 			shouldBeReset = true;
 			this.newOnRemove = newOnRemove;
+			notifyManager();
 		}
 		else {
 			this.onRemove = newOnRemove;
@@ -243,11 +258,21 @@ public class Event implements Serializable {
 	
 
 	/**
-	 * Sets the onPeriod consumer for this event
+	 * Sets the onPeriod consumer for this event. This clears any onMultiplePeriods consumer, as it 
+	 * would no longer match.
 	 * @param onPeriod the onPeriod consumer for this event
 	 */
 	public synchronized void setOnPeriod(final SerializableConsumer<ModelInterface> onPeriod) {
 		this.onPeriod = onPeriod;
+		this.onMultiplePeriods = null;
+	}
+	/**
+	 * Sets the consumer used to settle several elapsed periods at once. It is passed the number of periods elapsed, 
+	 * and should have the same effect as calling onPeriod that many times.
+	 * @param onMultiplePeriods the consumer to settle multiple periods with, or null to always call onPeriod once per period
+	 */
+	public synchronized void setOnMultiplePeriods(final SerializableBiConsumer<ModelInterface, Long> onMultiplePeriods) {
+		this.onMultiplePeriods = onMultiplePeriods;
 	}
 	/**
 	 * returns the period of this event in minutes
@@ -265,6 +290,7 @@ public class Event implements Serializable {
 		isPeriodic = period > 0;
 		if (isPeriodic)
 			this.period = Math.max(periodInMinutes, MIN_PERIOD);
+		notifyManager();
 	}
 	/**
 	 * Sets the onPeriod consumer for this event as well as the new period in minutes for this event
@@ -311,6 +337,16 @@ public class Event implements Serializable {
 	public boolean keepTrackWhileOff() {
 		return keepTrackWhileOff;
 	}
+	/**
+	 * Sets whether or not this event keeps track of its lifetime/periods while the game is not running. 
+	 * @param keepTrackWhileOff true to keep track of periods while the game is not running
+	 * @throws IllegalStateException if called after onPlace has been executed
+	 */
+	public synchronized void setKeepTrackWhileOff(final boolean keepTrackWhileOff) {
+		if (onPlaceExecuted())
+			throw new IllegalStateException("Attempted to change time keeping after placing!");
+		this.keepTrackWhileOff = keepTrackWhileOff;
+	}
 	/**
 	 * Sets the name of this event
 	 * @param name the new name of this event
@@ -324,6 +360,7 @@ public class Event implements Serializable {
 	 */
 	public synchronized void markForRemoval() {
 		shouldBeRemoved = true;
+		notifyManager();
 	}
 	/**
 	 * Returns true if this event was marked for removal
@@ -385,6 +422,43 @@ public class Event implements Serializable {
 	 */
 	public void setOnTick(final SerializableConsumer<ModelInterface> onTick) {
 		this.onTick = onTick;
+		onTickIsNoOp = false;
+		notifyManager();
+	}
+	/**
+	 * Returns true if this event has an onTick consumer that needs to be run every game tick
+	 * @return true if this event has an onTick consumer that needs to be run every game tick
+	 */
+	boolean hasOnTick() {
+		return !onTickIsNoOp;
+	}
+	/**
+	 * Returns the amount of time (in milliseconds) until the next period of this event is due. Used by the EventManager
+	 * to avoid visiting this event until then. This may underestimate, but never overestimate.
+	 * @param model the ModelInterface to get the time from
+	 * @return the time until the next period is due, 0 if it is due now, or Long.MAX_VALUE if this event isn't periodic
+	 */
+	protected synchronized long millisUntilNextPeriod(final ModelInterface model) {
+		if (!hasPeriodicity())
+			return Long.MAX_VALUE;
+		final long timeAlive = keepTrackWhileOff ? model.getTotalTimeSinceStart() - timeCreated : model.getTotalInGameTime() - inGameTimeCreated;
+		final long nextPeriodAt = GameUtils.minutesToMillis(period * (numPeriodsElapsed + 1));
+		return Math.max(0, nextPeriodAt - timeAlive);
+	}
+	/**
+	 * Sets the EventManager that is scheduling this event
+	 * @param manager the EventManager, or null if this event is no longer on the model
+	 */
+	void setManager(final EventManager manager) {
+		this.manager = manager;
+	}
+	/**
+	 * Lets the EventManager scheduling this event know that it needs to be looked at again
+	 */
+	private void notifyManager() {
+		final EventManager current = manager;
+		if (current != null)
+			current.notifyEventChanged(this);
 	}
 	/**
 	 * Returns the onRemove consumer for this event
@@ -2,37 +2,73 @@ package effects;
 
 import static gameutils.Constants.DEBUG;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import model.ModelInterface;
 /**
- * Manages the events of all things on the ModelInterface
+ * Manages the events of all things on the ModelInterface. Rather than visiting every event each game tick,
+ * periodic events are kept in a queue ordered by when their next period is due, and only events with an onTick
+ * are visited every tick. Events let this manager know when they are added, marked for removal/reset, or
+ * change period so that they can be looked at again.
  * @author David O'Sullivan
  *
  */
 public class EventManager implements Serializable{
 	/**
-	 * 
+	 *
 	 */
 	private static final long serialVersionUID = 1L;
 	private final Set<Eventful> events = new HashSet<Eventful>();
 	private final Queue<Runnable> removalEvents = new ConcurrentLinkedQueue<Runnable>();
 	private final Map<Eventful, List<Event>> markedForRemovalEvents = new HashMap<Eventful, List<Event>>();
 	private final ModelInterface model;
+	/**
+	 * The Eventful that owns each event currently being scheduled
+	 */
+	private transient Map<Event, Eventful> owners;
+	/**
+	 * The current entry in periodQueue for each event. Entries in the queue that aren't the current one are stale and ignored.
+	 */
+	private transient Map<Event, ScheduledEvent> scheduled;
+	/**
+	 * Periodic events, ordered by the in game time their next period is due
+	 */
+	private transient PriorityQueue<ScheduledEvent> periodQueue;
+	/**
+	 * Events with an onTick consumer, these are visited every tick
+	 */
+	private transient Set<Event> tickSubscribers;
+	/**
+	 * Events that were added to an Eventful on the model and haven't been scheduled yet
+	 */
+	private transient Queue<Map.Entry<Eventful, Event>> addedEvents;
+	/**
+	 * Events that have changed (marked for removal/reset, new period, new onTick) since the last tick
+	 */
+	private transient Queue<Event> changedEvents;
 	/**
 	 * Creates a new EventManager for the provided ModelInterface
 	 * @param model the model that this EventManager is managing events for
 	 */
 	public EventManager(final ModelInterface model) {
 		this.model = model;
+		initSchedule();
 	}
 	/**
 	 * Should be called whenever an Eventful is added to the ModelInterface
@@ -42,6 +78,9 @@ public class EventManager implements Serializable{
 		if (events.contains(eventful))
 			throw new RuntimeException("EventManager already contains Eventful: " + eventful);
 		events.add(eventful);
+		eventful.setEventManager(this);
+		for (final Event e: eventful.getEvents())
+			notifyEventAdded(eventful, e);
 	}
 	/**
 	 * Should be called whenever an Eventful is removed from the ModelInterface
@@ -50,41 +89,153 @@ public class EventManager implements Serializable{
 	public synchronized void notifyEventfulRemoved(final Eventful eventful) {
 		if (!events.contains(eventful))
 			throw new RuntimeException("Attempted to Remove Events From Eventful that Doesn't exist!");
-		for (final Event e: eventful.getEvents())
+		eventful.setEventManager(null);
+		for (final Event e: eventful.getEvents()) {
 			removalEvents.add(e.getOnRemoveRunnable(model));
+			unschedule(e);
+		}
 		events.remove(eventful);
 	}
+	/**
+	 * Should be called whenever an event is added to an Eventful that is on the ModelInterface. The event will
+	 * be scheduled on the next tick.
+	 * @param eventful the Eventful that the event was added to
+	 * @param event the event that was added
+	 */
+	public void notifyEventAdded(final Eventful eventful, final Event event) {
+		addedEvents.add(new SimpleEntry<Eventful, Event>(eventful, event));
+	}
+	/**
+	 * Should be called whenever an event is marked for removal/reset or changes its period or onTick. The
+	 * event will be looked at again on the next tick.
+	 * @param event the event that changed
+	 */
+	void notifyEventChanged(final Event event) {
+		changedEvents.add(event);
+	}
 	/**
 	 * Should be called every game tick to call appropriate event consumers
 	 */
 	public synchronized void runEvents() {
-		events.forEach(eventful -> eventful.getEvents().forEach((event) ->
-		{
-			if (!event.onPlaceExecuted()) {
-				if (DEBUG) {
-					System.out.println("running event: " + eventful.getName());
-					event.addToName("EVENT FROM: " + eventful.getName());
-				}
-				event.getOnPlaceRunnable(model).run();
+		final long now = model.getTotalInGameTime();
+		final Map<Event, Eventful> toRun = new LinkedHashMap<Event, Eventful>();
+		Map.Entry<Eventful, Event> added;
+		while ((added = addedEvents.poll()) != null) {
+			if (events.contains(added.getKey()) && !owners.containsKey(added.getValue())) {
+				schedule(added.getKey(), added.getValue());
+				toRun.put(added.getValue(), added.getKey());
 			}
-			event.executePeriod(model).run();
-			event.getExecuteOnTickRunnable(model).run();
-			if (event.wasMarkedForRemoval()) { // if the event was removed by the Thing itself
-				final List<Event> removalList = new ArrayList<Event>();
-				removalList.add(event);
-				markedForRemovalEvents.merge(eventful, removalList, (o, v) -> {o.addAll(v); return o;});
-				removalEvents.add(event.getOnRemoveRunnable(model));
+		}
+		Event changed;
+		while ((changed = changedEvents.poll()) != null) {
+			if (owners.containsKey(changed)) {
+				updateTickSubscription(changed);
+				toRun.put(changed, owners.get(changed));
 			}
-			if (event.shouldBeReset()) {
-				event.getOnResetRunnable(model).run();
+		}
+		while (!periodQueue.isEmpty() && periodQueue.peek().dueTime <= now) {
+			final ScheduledEvent due = periodQueue.poll();
+			if (scheduled.get(due.event) == due) {
+				scheduled.remove(due.event);
+				toRun.put(due.event, owners.get(due.event));
 			}
-		})); 
+		}
+		toRun.forEach((event, eventful) -> runEvent(eventful, event, now));
+		tickSubscribers.forEach(event -> {
+			if (!toRun.containsKey(event))
+				event.getExecuteOnTickRunnable(model).run();
+		});
 		removalEvents.forEach((runnable) -> runnable.run());
 		removalEvents.clear();
-		markedForRemovalEvents.forEach((eventful, list) -> eventful.confirmEventRemovals(list));
+		markedForRemovalEvents.forEach((eventful, list) -> {
+			eventful.confirmEventRemovals(list);
+			list.forEach(event -> unschedule(event));
+		});
 		markedForRemovalEvents.clear();
 	}
-
-	
+	/**
+	 * Runs everything for the provided event that is due this tick, and schedules when it should next be looked at
+	 * @param eventful the owner of the event
+	 * @param event the event to run
+	 * @param now the current in game time
+	 */
+	private void runEvent(final Eventful eventful, final Event event, final long now) {
+		if (!event.onPlaceExecuted()) {
+			if (DEBUG) {
+				System.out.println("running event: " + eventful.getName());
+				event.addToName("EVENT FROM: " + eventful.getName());
+			}
+			event.getOnPlaceRunnable(model).run();
+		}
+		event.executePeriod(model).run();
+		if (event.hasOnTick())
+			event.getExecuteOnTickRunnable(model).run();
+		if (event.wasMarkedForRemoval()) { // if the event was removed by the Thing itself
+			final List<Event> removalList = new ArrayList<Event>();
+			removalList.add(event);
+			markedForRemovalEvents.merge(eventful, removalList, (o, v) -> {o.addAll(v); return o;});
+			removalEvents.add(event.getOnRemoveRunnable(model));
+		}
+		if (event.shouldBeReset()) {
+			event.getOnResetRunnable(model).run();
+		}
+		final long wait = event.millisUntilNextPeriod(model);
+		if (wait != Long.MAX_VALUE) {
+			final ScheduledEvent next = new ScheduledEvent(event, now + Math.max(1, wait));
+			scheduled.put(event, next);
+			periodQueue.add(next);
+		}
+	}
+	/**
+	 * Starts keeping track of the provided event
+	 */
+	private void schedule(final Eventful eventful, final Event event) {
+		owners.put(event, eventful);
+		event.setManager(this);
+		updateTickSubscription(event);
+	}
+	/**
+	 * Stops keeping track of the provided event. Its entry in the periodQueue (if any) becomes stale.
+	 */
+	private void unschedule(final Event event) {
+		owners.remove(event);
+		scheduled.remove(event);
+		tickSubscribers.remove(event);
+		event.setManager(null);
+	}
+	private void updateTickSubscription(final Event event) {
+		if (event.hasOnTick())
+			tickSubscribers.add(event);
+		else
+			tickSubscribers.remove(event);
+	}
+	private void initSchedule() {
+		owners = new IdentityHashMap<Event, Eventful>();
+		scheduled = new IdentityHashMap<Event, ScheduledEvent>();
+		periodQueue = new PriorityQueue<ScheduledEvent>(Comparator.comparingLong(e -> e.dueTime));
+		tickSubscribers = new LinkedHashSet<Event>();
+		addedEvents = new ConcurrentLinkedQueue<Map.Entry<Eventful, Event>>();
+		changedEvents = new ConcurrentLinkedQueue<Event>();
+	}
+	private void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
+		ois.defaultReadObject();
+		initSchedule();
+		for (final Eventful eventful : events) {
+			eventful.setEventManager(this);
+			for (final Event e : eventful.getEvents())
+				notifyEventAdded(eventful, e);
+		}
+	}
+	/**
+	 * An event along with the in game time it is next due to be looked at
+	 */
+	private static final class ScheduledEvent {
+		private final Event event;
+		private final long dueTime;
+		private ScheduledEvent(final Event event, final long dueTime) {
+			this.event = event;
+			this.dueTime = dueTime;
+		}
+	}
 
 }
@@ -35,6 +35,12 @@ public default void addToEventList(final Collection<Event> events) {
  * @param event
  */
 public void addToEventList(final Event event);
+ /**
+ * Sets the EventManager that is currently managing this Eventful's events. Implementors should let that
+ * EventManager know (through notifyEventAdded) whenever an event is added to their event list.
+ * @param manager the EventManager, or null if this Eventful is no longer on the model
+ */
+public void setEventManager(final EventManager manager);
  /**
  * Returns the name of this Eventful
  * @return the name of this Eventful
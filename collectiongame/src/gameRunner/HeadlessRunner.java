@@ -0,0 +1,117 @@
+package gameRunner;
+
+import static gameutils.Constants.STARTING_GOLD;
+import static gameutils.Constants.STARTING_POP;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import model.ModelInterface;
+import model.VirtualGameClock;
+import model.defaultimplementation.Board;
+import thingFramework.Creature;
+
+/**
+ * Runs a Board without any GUI, stepping a virtual clock forward as fast as possible rather than waiting on
+ * the wall clock. Used for balance simulations and regression runs.
+ * @author David O'Sullivan
+ */
+public class HeadlessRunner {
+	/**
+	 * The default amount of simulated time that passes between each model update
+	 */
+	public static final long DEFAULT_STEP_MILLIS = 100;
+	private final VirtualGameClock clock;
+	private final ModelInterface board;
+	private final long stepMillis;
+	private Consumer<ModelInterface> onStep = x -> {};
+	/**
+	 * Creates a new HeadlessRunner with a new Board that starts with the default gold/popularity
+	 */
+	public HeadlessRunner() {
+		this(STARTING_GOLD, STARTING_POP, DEFAULT_STEP_MILLIS);
+	}
+	/**
+	 * Creates a new HeadlessRunner with a new Board
+	 * @param gold the starting gold of the board
+	 * @param popularity the starting popularity of the board
+	 * @param stepMillis the amount of simulated time in milliseconds that passes between each model update
+	 */
+	public HeadlessRunner(final int gold, final int popularity, final long stepMillis) {
+		this(gold, popularity, stepMillis, ThreadLocalRandom.current().nextLong());
+	}
+	/**
+	 * Creates a new HeadlessRunner with a new Board whose random numbers all come from the provided seed. Two runs with the
+	 * same seed and the same steps will have the same results.
+	 * @param gold the starting gold of the board
+	 * @param popularity the starting popularity of the board
+	 * @param stepMillis the amount of simulated time in milliseconds that passes between each model update
+	 * @param seed the seed of the board's random numbers
+	 */
+	public HeadlessRunner(final int gold, final int popularity, final long stepMillis, final long seed) {
+		if (stepMillis <= 0)
+			throw new IllegalArgumentException("Step must be positive");
+		this.clock = new VirtualGameClock();
+		this.board = new Board(gold, popularity, clock, seed);
+		this.stepMillis = stepMillis;
+		board.onStartUp();
+	}
+	/**
+	 * Sets an action that is performed on the board after every step, e.g. to simulate player behavior
+	 * @param onStep the action to perform
+	 */
+	public void setOnStep(final Consumer<ModelInterface> onStep) {
+		this.onStep = onStep;
+	}
+	/**
+	 * Advances the clock by a single step and updates the board. Any remove or evolve requests made by the board are 
+	 * carried out immediately, as there is no presenter to process them.
+	 */
+	public void step() {
+		clock.advance(stepMillis);
+		board.update();
+		if (board.hasRemoveRequest())
+			board.removeThings(board.getAllRemoveRequests());
+		for (final Creature creature : board.getAllEvolveRequests())
+			board.evolveCreature(creature);
+		onStep.accept(board);
+	}
+	/**
+	 * Steps the board until the provided amount of simulated time has passed
+	 * @param simulatedMillis the amount of simulated time in milliseconds
+	 */
+	public void run(final long simulatedMillis) {
+		for (long elapsed = 0; elapsed < simulatedMillis; elapsed += stepMillis)
+			step();
+	}
+	/**
+	 * Returns the board being simulated
+	 * @return the board being simulated
+	 */
+	public ModelInterface getBoard() {
+		return board;
+	}
+	/**
+	 * Returns the virtual clock driving the board
+	 * @return the virtual clock driving the board
+	 */
+	public VirtualGameClock getClock() {
+		return clock;
+	}
+	/**
+	 * Simulates a game without any GUI and prints out the final state
+	 * @param args optionally the number of hours to simulate (default 24) and the step size in milliseconds
+	 */
+	public static void main(final String... args) {
+		final double hours = args.length > 0 ? Double.parseDouble(args[0]) : 24;
+		final long step = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_STEP_MILLIS;
+		final HeadlessRunner runner = new HeadlessRunner(STARTING_GOLD, STARTING_POP, step);
+		final long start = System.currentTimeMillis();
+		runner.run((long) (hours * 60 * 60 * 1000));
+		final ModelInterface board = runner.getBoard();
+		System.out.println("Simulated " + hours + " hours in " + (System.currentTimeMillis() - start) + " ms");
+		System.out.println("Gold: " + board.getGold() + " Popularity: " + board.getPopularity() + " Creatures Waiting: " + board.numCreaturesWaiting());
+		System.out.println(board.getTimeStats());
+		System.out.println(board.getAdvancedStats());
+	}
+}
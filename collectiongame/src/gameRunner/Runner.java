@@ -2,6 +2,7 @@ package gameRunner;
 
 import static gameutils.Constants.CHEAT_MODE;
 import static gameutils.Constants.CHEAT_MODE_VALUE;
+import static gameutils.Constants.HOT_RELOAD;
 import static gameutils.Constants.STARTING_GOLD;
 import static gameutils.Constants.STARTING_POP;
 import static gui.guiutils.GUIConstants.SKIP_LOAD_SCREEN;
@@ -22,6 +23,7 @@ import javax.swing.Timer;
 import gui.displayComponents.StartScreenBuilder;
 import gui.guiutils.GuiUtils;
 import gui.mvpFramework.presenter.Presenter;
+import loaders.ContentReloader;
 import model.ModelInterface;
 import model.defaultimplementation.Board;
 import userIO.GameSaver;
@@ -130,6 +132,15 @@ public class Runner  {
 				GuiUtils.displayError(e, startScreen);
 			}
 		}, 0, 10, TimeUnit.MILLISECONDS);
+		if (HOT_RELOAD)
+			startContentReloader();
+	}
+	private void startContentReloader() {
+		try {
+			ContentReloader.start(changes -> p.applyTemplateChanges(changes));
+		} catch (final IOException | IllegalStateException e) {
+			e.printStackTrace();
+		}
 	}
 	/**
 	 * To be called when the user has pressed the continue game button
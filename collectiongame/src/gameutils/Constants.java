@@ -33,6 +33,15 @@ public final class Constants {
 	 * The amount of popularity to start the game with
 	 */
 	public final static int STARTING_POP = 0;
+	/**
+	 * Set to true to credit periodic income (gold per hour/minute, random gold) for the time that the game was closed
+	 */
+	public final static boolean OFFLINE_CATCH_UP = true;
+	/**
+	 * Set to true to watch the InputFiles on the classpath while the game is running, and push any changes to the Thing
+	 * templates onto the Things already in the game
+	 */
+	public final static boolean HOT_RELOAD = false;
 	private Constants() {}
 
 }
@@ -5,7 +5,9 @@ package gameutils;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * A bare-minimum wrapping of an Enum Set. Should be extended whenever a Set of Enums of a certain type is wanted.
@@ -52,6 +54,13 @@ public abstract class EnumSetHolder<T extends Enum<T>> implements Serializable {
 	public boolean containsValue(final T value) {
 		return typeMap.contains(value);
 	}
+	/**
+	 * Returns an unmodifiable view of the values in this EnumSetHolder
+	 * @return an unmodifiable view of the values in this EnumSetHolder
+	 */
+	public Set<T> viewValues() {
+		return Collections.unmodifiableSet(typeMap);
+	}
 	/**
 	 * Checks if the EnumSetHolder contains the value represented by the passed in string
 	 * @param value the string representation of the value to check
@@ -89,6 +98,25 @@ public abstract class EnumSetHolder<T extends Enum<T>> implements Serializable {
 	 */
 	protected abstract Class<T> getEnumClass();
 	
+	/** 
+	 * Two EnumSetHolders are equal if they are of the same class and hold the same values
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		return typeMap.equals(((EnumSetHolder<?>) o).typeMap);
+	}
+	/** 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return typeMap.hashCode();
+	}
 	/** 
 	 * @see java.lang.Object#toString()
 	 * @return the string representation of this EnumSetHolder
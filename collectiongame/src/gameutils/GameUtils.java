@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
@@ -34,18 +33,52 @@ public final class GameUtils {
 		return output;
 	}
 	/**
+	 * @param random the source of random numbers to use
 	 * @param percentChance the percent chance of an event occuring
 	 * @return whether or not that event occurs
 	 */
-	public static boolean testPercentChance(final double percentChance) {
+	public static boolean testPercentChance(final RandomStream random, final double percentChance) {
 
-		final double randomNum = ThreadLocalRandom.current().nextDouble(0, 100); //num between [0, 100)
+		final double randomNum = random.nextDouble() * 100; //num between [0, 100)
 		if (randomNum >= (100-percentChance))
 			return true;
 
 		return false;
 
 	}
+	/**
+	 * Returns how many of the provided number of independent trials succeed when each has the provided percent chance
+	 * of succeeding. This has the same distribution as calling testPercentChance(random, percentChance) that many times, but
+	 * doesn't require a random number per trial.
+	 * @param random the source of random numbers to use
+	 * @param trials the number of trials
+	 * @param percentChance the percent chance of each trial succeeding
+	 * @return the number of successful trials
+	 */
+	public static long numSuccesses(final RandomStream random, final long trials, final double percentChance) {
+		final double p = percentChance / 100;
+		if (trials <= 0 || p <= 0)
+			return 0;
+		if (p >= 1)
+			return trials;
+		if (p > .5)
+			return trials - numSuccesses(random, trials, 100 - percentChance);
+		if (trials * p >= 30) { //normal approximation
+			final double mean = trials * p;
+			final double sd = Math.sqrt(mean * (1-p));
+			return Math.max(0, Math.min(trials, Math.round(mean + sd * random.nextGaussian())));
+		}
+		//skip ahead by geometrically distributed gaps between successes
+		final double logFail = Math.log(1-p);
+		long successes = 0;
+		long trial = 0;
+		while (true) {
+			trial += (long) (Math.log(1-random.nextDouble()) / logFail) + 1;
+			if (trial > trials)
+				return successes;
+			successes++;
+		}
+	}
 	/**
 	 * @param <E> the type of the list
 	 * @param list1 the first list to unionize
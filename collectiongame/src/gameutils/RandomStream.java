@@ -0,0 +1,110 @@
+package gameutils;
+
+import java.io.Serializable;
+
+/**
+ * A fast, seeded source of random numbers that can be saved along with the game. Uses the same algorithm as
+ * java.util.SplittableRandom (which can't be saved), so two RandomStreams created with the same seed (or split
+ * from RandomStreams in the same state) will always produce the same numbers.
+ * <br> NOTE: not thread safe, each RandomStream should only be used by one thread at a time </br>
+ * @author David O'Sullivan
+ *
+ */
+public final class RandomStream implements Serializable {
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The gamma used by RandomStreams created from a seed
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	/**
+	 * Scales the top 53 bits of a long to a double in [0, 1)
+	 */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private long seed;
+	/**
+	 * The amount seed is advanced by every time a number is generated. Always odd.
+	 */
+	private final long gamma;
+	/**
+	 * Creates a new RandomStream from the provided seed
+	 * @param seed the seed
+	 */
+	public RandomStream(final long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+	private RandomStream(final long seed, final long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+	/**
+	 * Creates a new RandomStream whose numbers are independent of this one's, advancing this one.
+	 * @return the new RandomStream
+	 */
+	public RandomStream split() {
+		return new RandomStream(mix64(nextSeed()), mixGamma(nextSeed()));
+	}
+	/**
+	 * @return a random long
+	 */
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+	/**
+	 * @param bound the upper bound (exclusive)
+	 * @return a random long in [0, bound)
+	 * @throws IllegalArgumentException if bound isn't positive
+	 */
+	public long nextLong(final long bound) {
+		if (bound <= 0)
+			throw new IllegalArgumentException("bound must be positive: " + bound);
+		final long m = bound - 1;
+		long r = nextLong();
+		if ((bound & m) == 0L) //power of two
+			return r & m;
+		//reject values from the top of the range that would make smaller values more likely
+		for (long u = r >>> 1; u + m - (r = u % bound) < 0L; u = nextLong() >>> 1);
+		return r;
+	}
+	/**
+	 * @param bound the upper bound (exclusive)
+	 * @return a random int in [0, bound)
+	 * @throws IllegalArgumentException if bound isn't positive
+	 */
+	public int nextInt(final int bound) {
+		return (int) nextLong(bound);
+	}
+	/**
+	 * @return a random double in [0, 1)
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+	/**
+	 * @return a random double from the standard normal distribution (mean 0, standard deviation 1)
+	 */
+	public double nextGaussian() {
+		//polar method
+		double v1, v2, s;
+		do {
+			v1 = 2 * nextDouble() - 1;
+			v2 = 2 * nextDouble() - 1;
+			s = v1 * v1 + v2 * v2;
+		} while (s >= 1 || s == 0);
+		return v1 * Math.sqrt(-2 * Math.log(s) / s);
+	}
+	private long nextSeed() {
+		return seed += gamma;
+	}
+	private static long mix64(final long z) {
+		final long z1 = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		final long z2 = (z1 ^ (z1 >>> 27)) * 0x94d049bb133111ebL;
+		return z2 ^ (z2 >>> 31);
+	}
+	private static long mixGamma(final long z) {
+		final long z1 = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		final long z2 = (z1 ^ (z1 >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		final long z3 = (z2 ^ (z2 >>> 33)) | 1L;
+		//avoid gammas with too few bit flips, which give poorly mixed numbers
+		return Long.bitCount(z3 ^ (z3 >>> 1)) < 24 ? z3 ^ 0xaaaaaaaaaaaaaaaaL : z3;
+	}
+}
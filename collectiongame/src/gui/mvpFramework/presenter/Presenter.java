@@ -10,8 +10,15 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
@@ -30,9 +37,12 @@ import gui.gameComponents.grid.GridSpace;
 import gui.guiutils.GuiUtils;
 import gui.mvpFramework.view.ViewInterface;
 import gui.mvpFramework.view.defaultimplementation.GameView;
+import loaders.TemplateChanges;
 import loaders.shopLoader.ShopItem;
+import model.BoardSnapshot;
 import model.ModelInterface;
 import model.ShopWindow;
+import thingFramework.Creature;
 import thingFramework.Thing;
 import userIO.GameSaver;
 
@@ -59,7 +69,7 @@ public class Presenter implements Serializable {
 	/**
 	 * the Consumer that is triggered when the user clicks the notification button and decides to let the creature go
 	 */
-	private final static Consumer<Presenter> LET_CREATURE_GO = p -> p.model.confirmGrab();	
+	private final static Consumer<Presenter> LET_CREATURE_GO = p -> p.model.releaseGrab();	
 	
 
 
@@ -94,6 +104,16 @@ public class Presenter implements Serializable {
 	 * Map between GridSpaces and the Things that they represent. This is made transient to manually set GUI
 	 */
 	private transient Map<GridSpace, Thing> allThings;
+	/**
+	 * Reverse of allThings, from each Thing to the GridSpace that represents it. Only modify allThings through
+	 * putThing/removeThing so that this stays in sync.
+	 */
+	private transient Map<Thing, GridSpace> thingToGridSpace;
+	/**
+	 * The number of GridSpaces in soldThings for each ShopItem. Only modify soldThings through putSoldThing/removeSoldThing
+	 * so that this stays in sync.
+	 */
+	private transient Map<ShopItem, Integer> soldItemCounts;
 	/**
 	 * When in an add Attempt the Thing that the user wants to add
 	 */
@@ -153,6 +173,14 @@ public class Presenter implements Serializable {
 	 * shop knows it must update
 	 */
 	private int amountOfLastPop = -1;
+	/**
+	 * The version of the last model snapshot that the GUI was updated from
+	 */
+	private transient long lastRenderedVersion = -1;
+	/**
+	 * The version of the last model snapshot that tooltips were updated from
+	 */
+	private transient long lastToolTipVersion = -1;
 	
 	
 
@@ -173,6 +201,7 @@ public class Presenter implements Serializable {
 		this.gameStateSaver = new CurrentGamestateSaver(gameSaver);
 		allThings = new HashMap<GridSpace, Thing>();
 		soldThings = new HashMap<GridSpace, ShopItem>();
+		rebuildIndexes();
 		title = viewTitle;
 		setModel(model);
 		setView(viewTitle);
@@ -220,7 +249,7 @@ public class Presenter implements Serializable {
 			throw new RuntimeException("Attempted To Remove Non-Existant GridSpace");
 		if (removeFromModel)
 			model.removeThing(allThings.get(gridSpace));
-		return new AllThingsMapEntry(gridSpace, allThings.remove(gridSpace));
+		return new AllThingsMapEntry(gridSpace, removeThing(gridSpace));
 	}
 	/**
 	 * Updates the notification counter of the notifaction button and updates the display of the GUI
@@ -228,26 +257,46 @@ public class Presenter implements Serializable {
 	public void updateGUI() {
 		if (model == null || view == null)
 			return;
-		view.setWildCreatureCount(model.numCreaturesWaiting());
-		if (model.getGold() != amountOfLastGold || model.getPopularity() != amountOfLastPop) {
-			amountOfLastGold = model.getGold();
-			amountOfLastPop = model.getPopularity();
-			if (state == CurrentState.IN_SHOP)
-				updateShop();
-			else
-				suggestShopUpdate();
+		final BoardSnapshot snapshot = model.getSnapshot();
+		if (snapshot == null)
+			return;
+		if (snapshot.getVersion() != lastRenderedVersion) {
+			lastRenderedVersion = snapshot.getVersion();
+			view.setWildCreatureCount(snapshot.getNumCreaturesWaiting());
+			if (snapshot.getGold() != amountOfLastGold || snapshot.getPopularity() != amountOfLastPop) {
+				amountOfLastGold = snapshot.getGold();
+				amountOfLastPop = snapshot.getPopularity();
+				if (state == CurrentState.IN_SHOP)
+					updateShop();
+				else
+					suggestShopUpdate();
+			}
+			view.setModelAttributes(snapshot.getGold(), snapshot.getPopularity());
 		}
-		view.setModelAttributes(model.getGold(), model.getPopularity());
 		view.updateDisplay();
 		if (state != CurrentState.PLACING_SPACE && !toBeDeleted.isEmpty()) {
-		
-			deleteGridSpace(toBeDeleted.poll());
+			final Set<GridSpace> deleting = new LinkedHashSet<GridSpace>();
+			GridSpace next;
+			while ((next = toBeDeleted.poll()) != null)
+				deleting.add(next);
+			deleteGridSpaces(deleting);
 		}
 		
 	}
 	private void updateToolTips() {
-		if (toolTipsEnabled)
-			allThings.forEach((gridSpace, thing) -> DescriptionManager.getInstance().setDescription(gridSpace, thing));
+		if (!toolTipsEnabled || model == null)
+			return;
+		final BoardSnapshot snapshot = model.getSnapshot();
+		if (snapshot == null || snapshot.getVersion() == lastToolTipVersion)
+			return;
+		lastToolTipVersion = snapshot.getVersion();
+		allThings.forEach((gridSpace, thing) -> {
+			final String description = snapshot.getDescription(thing);
+			if (description != null)
+				DescriptionManager.getInstance().setDescription(gridSpace, description);
+			else //placed since the snapshot was taken
+				DescriptionManager.getInstance().setDescription(gridSpace, thing);
+		});
 	}
 	private void stopToolTips() {
 		toolTipsEnabled = false;
@@ -257,6 +306,16 @@ public class Presenter implements Serializable {
 	}
 	private void resumeToolTips() {
 		toolTipsEnabled = true;
+		lastToolTipVersion = -1;
+	}
+	/**
+	 * Brings the model up to date with changes to the Thing templates (e.g. from InputFiles being reloaded)
+	 * @param changes the changes to the templates
+	 */
+	public void applyTemplateChanges(final TemplateChanges changes) {
+		if (model == null)
+			return;
+		model.applyTemplateChanges(changes);
 	}
 	/**
 	 * Calls the model's update method
@@ -265,18 +324,25 @@ public class Presenter implements Serializable {
 		if (model == null || view == null)
 			return;
 		model.update();
-		if (model.hasRemoveRequest()) {
-			final Thing toRemove = model.getNextRemoveRequest();
+		final List<Thing> toRemove = model.getAllRemoveRequests();
+		if (!toRemove.isEmpty()) {
 			SwingUtilities.invokeLater(() -> {
-				final GridSpace[] toDelete = new GridSpace[1];
-				allThings.forEach((gridSpace, t) -> {
-					if (t == toRemove)
-						toDelete[0] = gridSpace;
-				});
-				toDelete[0].removeListeners();
-				toBeDeleted.add(toDelete[0]);
+				for (final Thing t : toRemove) {
+					final GridSpace gridSpace = thingToGridSpace.get(t);
+					if (gridSpace != null) {
+						gridSpace.removeListeners();
+						toBeDeleted.add(gridSpace);
+					}
+				}
 			});	
 		}
+		final List<Creature> toEvolve = model.getAllEvolveRequests();
+		if (!toEvolve.isEmpty()) {
+			SwingUtilities.invokeLater(() -> {
+				for (final Creature c : toEvolve)
+					evolveGridSpace(c);
+			});
+		}
 		if (PRINT_BOARD) {
 			newString = model.toString();
 			if (!newString.equals(oldString)) {
@@ -432,7 +498,7 @@ public class Presenter implements Serializable {
 			model.confirmGrab();
 			break;
 		case ITEM_FROM_SHOP:
-			soldThings.put(gridSpace, itemToPurchase);
+			putSoldThing(gridSpace, itemToPurchase);
 			thingToAdd = shopWindow.confirmPurchase();
 			updateShop();
 			break;
@@ -452,7 +518,7 @@ public class Presenter implements Serializable {
 		if (thingToAdd == null)
 			return;
 		model.addThing(thingToAdd);
-		allThings.put(gridSpace, thingToAdd);		
+		putThing(gridSpace, thingToAdd);
 	}
 
 	/**
@@ -545,17 +611,28 @@ public class Presenter implements Serializable {
 
 	}
 	private void deleteGridSpace(final GridSpace gridSpace) {
+		deleteGridSpaces(Collections.singletonList(gridSpace));
+	}
+	/**
+	 * Deletes all the provided GridSpaces, removing all of their Things from the model in one batch
+	 * @param gridSpaces the GridSpaces to delete
+	 */
+	private void deleteGridSpaces(final Collection<GridSpace> gridSpaces) {
 		/*
 		 * Note how this method is different from confirmSellBack in that it conditionally sends items back to the board,
 		 * and doesn't refund money if it does
 		 */
-		if (soldThings.containsKey(gridSpace)) {
-			final ShopItem item = soldThings.remove(gridSpace);
-			if (item.shouldSendBackToShopWhenRemoved())
-				shopWindow.sendItemBackToShop(item);
+		final List<Thing> removed = new ArrayList<Thing>(gridSpaces.size());
+		for (final GridSpace gridSpace : gridSpaces) {
+			if (soldThings.containsKey(gridSpace)) {
+				final ShopItem item = removeSoldThing(gridSpace);
+				if (item.shouldSendBackToShopWhenRemoved())
+					shopWindow.sendItemBackToShop(item);
+			}
+			removed.add(this.removeGridSpace(gridSpace, false).thing);
+			gridSpace.removeFromGrid();
 		}
-		this.removeGridSpace(gridSpace, true);
-		gridSpace.removeFromGrid();
+		model.removeThings(removed);
 		updateShop();
 	}
 	private void confirmDelete() {
@@ -596,7 +673,7 @@ public class Presenter implements Serializable {
 		if (state != CurrentState.SELL_BACK_CONFIRM_WINDOW || gridSpaceToDelete == null || itemToSellBack == null) 
 			throw new RuntimeException("No Delete to Confirm");
 		shopWindow.sellBack(itemToSellBack);
-		soldThings.remove(gridSpaceToDelete);
+		removeSoldThing(gridSpaceToDelete);
 		this.removeGridSpace(gridSpaceToDelete, true);
 		gridSpaceToDelete.removeFromGrid();
 		updateShop();
@@ -700,13 +777,60 @@ public class Presenter implements Serializable {
 	 * @return the number of that ShopItem currently on board
 	 */
 	public int numOfShopItemOnBoard(final ShopItem item) {
-		int count = 0;
-		for (final Map.Entry<GridSpace, ShopItem> entry : soldThings.entrySet()) {
-			if (entry.getValue() == item)
-				count++;
-		}
-		return count;
-
+		return soldItemCounts.getOrDefault(item, 0);
+	}
+	/**
+	 * Evolves the provided creature on the model, and has the GridSpace that represents it represent its evolution instead.
+	 * Does nothing if the creature is no longer represented by a GridSpace, or that GridSpace is about to be deleted.
+	 * @param creature the creature to evolve
+	 */
+	private void evolveGridSpace(final Creature creature) {
+		final GridSpace gridSpace = thingToGridSpace.get(creature);
+		if (gridSpace == null || toBeDeleted.contains(gridSpace))
+			return;
+		final Creature evolved = model.evolveCreature(creature);
+		if (evolved == null)
+			return;
+		putThing(gridSpace, evolved);
+		Image image = GuiUtils.readImage(evolved.getImage());
+		for (int i = 0; i < gridSpace.getData().num90Rotations; i++)
+			image = GuiUtils.rotateImage90ClockwiseAndTrim(image);
+		gridSpace.setImage(image);
+		if (toolTipsEnabled)
+			DescriptionManager.getInstance().setDescription(gridSpace, evolved);
+	}
+	private void putThing(final GridSpace gridSpace, final Thing thing) {
+		final Thing old = allThings.put(gridSpace, thing);
+		if (old != null)
+			thingToGridSpace.remove(old);
+		thingToGridSpace.put(thing, gridSpace);
+	}
+	private Thing removeThing(final GridSpace gridSpace) {
+		final Thing removed = allThings.remove(gridSpace);
+		if (removed != null)
+			thingToGridSpace.remove(removed);
+		return removed;
+	}
+	private void putSoldThing(final GridSpace gridSpace, final ShopItem item) {
+		final ShopItem old = soldThings.put(gridSpace, item);
+		if (old != null)
+			soldItemCounts.computeIfPresent(old, (k, v) -> v == 1 ? null : v-1);
+		soldItemCounts.merge(item, 1, (o, v) -> o+1);
+	}
+	private ShopItem removeSoldThing(final GridSpace gridSpace) {
+		final ShopItem removed = soldThings.remove(gridSpace);
+		if (removed != null)
+			soldItemCounts.computeIfPresent(removed, (k, v) -> v == 1 ? null : v-1);
+		return removed;
+	}
+	/**
+	 * Rebuilds thingToGridSpace and soldItemCounts from allThings and soldThings
+	 */
+	private void rebuildIndexes() {
+		thingToGridSpace = new IdentityHashMap<Thing, GridSpace>();
+		soldItemCounts = new IdentityHashMap<ShopItem, Integer>();
+		allThings.forEach((gridSpace, thing) -> thingToGridSpace.put(thing, gridSpace));
+		soldThings.forEach((gridSpace, item) -> soldItemCounts.merge(item, 1, (o, v) -> o+1));
 	}
 	/**
 	 * To be called when the currentWindow's enter button is pressed
@@ -858,8 +982,10 @@ public class Presenter implements Serializable {
 		ois.defaultReadObject(); //will read in board, title, allThings, soldThings
 		allThings = new HashMap<GridSpace, Thing>();
 		soldThings = new HashMap<GridSpace, ShopItem>();
+		rebuildIndexes();
 		setView(title); //set up the game view as well as the shopwindow
 		PresenterSaver.readPresenterMaps(ois, allThings, soldThings, this, view);
+		rebuildIndexes();
 		onStartUp();
 		shopGUI.updateItems(shopWindow.getItemsInShop());
 		goodbyeMessage = new GoodbyeMessageCreator().getMessage();
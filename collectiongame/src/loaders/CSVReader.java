@@ -1,12 +1,16 @@
 package loaders;
 
 import java.io.BufferedReader;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -20,6 +24,12 @@ import gui.guiutils.GuiUtils;
  */
 public final class CSVReader {
 	
+	private static final String QUOTE_ESCAPE = "<q>";
+	private static final String MONEY_ESCAPE = "MONEY_SYMBOL";
+	/**
+	 * Characters that can't be split on without going through regex
+	 */
+	private static final String REGEX_SPECIAL_CHARACTERS = ".$|()[]{}^?*+\\";
 	private CSVReader() {
 		
 	}
@@ -32,6 +42,25 @@ public final class CSVReader {
 	public static List<String[]> readCSV(final String path) throws IOException {
 		return readCSV(path, null);
 	}
+	/**
+	 * Reads in multiple CSV files at the same time (on the common ForkJoinPool), as with readCSV(path)
+	 * @param paths the paths to the files
+	 * @return the List of inputs read for each file, in the same order as paths
+	 * @throws IOException if a file can't be found
+	 */
+	public static List<List<String[]>> readCSVs(final String... paths) throws IOException {
+		try {
+			return Arrays.stream(paths).parallel().map(path -> {
+				try {
+					return readCSV(path);
+				} catch (final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).collect(Collectors.toList());
+		} catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
 	/**
 	 * Reads in a CSV file, returning a list of String[], where each String[] is a given line of the file, split by ","
 	 * @param path the path to the file
@@ -101,30 +130,118 @@ public final class CSVReader {
 	 * @return the List of inputs read
 	 * @throws IOException if file can't be found
 	 */
-	public static List<String[]> readCSV(final String path, Function<String, String> modifyLineBy, final String splitBy, final int splitLimit, final boolean ignoreFirstLine) throws IOException{
-		if (modifyLineBy == null)
-			modifyLineBy = x -> {return x;};
-			List<String> doc;
-			try (InputStream resource = CSVReader.class.getResourceAsStream(path)) {
-				  doc =
-				      new BufferedReader(new InputStreamReader(resource,
-				          StandardCharsets.UTF_8)).lines().collect(Collectors.toList());
-				}
-		final List<String> lines = doc;
+	public static List<String[]> readCSV(final String path, final Function<String, String> modifyLineBy, final String splitBy, final int splitLimit, final boolean ignoreFirstLine) throws IOException{
 		final List<String[]> valueList = new ArrayList<String[]>();
-		int j=0;
-		final int start = ignoreFirstLine ? 1 : 0;
-		for (int i = start; i < lines.size(); i++) {
-			final String line = modifyLineBy.apply(lines.get(i));
-			valueList.add(line.split(splitBy, splitLimit));
-			for (int k =0; k < valueList.get(j).length; k++) {
-				valueList.get(j)[k] = valueList.get(j)[k].replace('|', ',').replace('^', '\n').replace("<q>", "\"").replace("MONEY_SYMBOL", GuiUtils.getMoneySymbol());
+		readCSV(path, modifyLineBy, splitBy, splitLimit, ignoreFirstLine, valueList::add);
+		return valueList;
+	}
+	/**
+	 * Reads in a CSV file one line at a time, passing each line to rowHandler as it is read, split by splitBy, 
+	 * with the same replacements as the other readCSV methods.
+	 * @param path the path to the file
+	 * @param modifyLineBy the function to apply to each line before splitting, or null to leave the line as is
+	 * @param splitBy the regex to split each line by
+	 * @param splitLimit the limit to call in split(splitBy, splitLimit)
+	 * @param ignoreFirstLine don't parse the first line
+	 * @param rowHandler called with the values of each line, in order
+	 * @throws IOException if file can't be found
+	 */
+	public static void readCSV(final String path, final Function<String, String> modifyLineBy, final String splitBy, final int splitLimit, final boolean ignoreFirstLine, final Consumer<String[]> rowHandler) throws IOException {
+		final InputStream resource = CSVReader.class.getResourceAsStream(path);
+		if (resource == null)
+			throw new FileNotFoundException(path);
+		final String moneySymbol = GuiUtils.getMoneySymbol();
+		final List<String> cells = new ArrayList<String>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+			if (ignoreFirstLine)
+				reader.readLine();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (modifyLineBy != null)
+					line = modifyLineBy.apply(line);
+				rowHandler.accept(split(line, splitBy, splitLimit, moneySymbol, cells));
 			}
-			j++;
 		}
-		return valueList;
 	}
-	
-	
+	/**
+	 * Splits the line as with line.split(splitBy, splitLimit) and decodes each value. If splitBy is a single character
+	 * that has no special meaning in a regex this is done in one pass over the line, without going through regex.
+	 * @param cells used to hold the values while splitting, cleared before use
+	 */
+	private static String[] split(final String line, final String splitBy, final int splitLimit, final String moneySymbol, final List<String> cells) {
+		if (splitBy.length() != 1 || REGEX_SPECIAL_CHARACTERS.indexOf(splitBy.charAt(0)) != -1) {
+			final String[] values = line.split(splitBy, splitLimit);
+			for (int i = 0; i < values.length; i++)
+				values[i] = decode(values[i], 0, values[i].length(), moneySymbol);
+			return values;
+		}
+		final char separator = splitBy.charAt(0);
+		cells.clear();
+		int start = 0;
+		int end;
+		while ((splitLimit <= 0 || cells.size() < splitLimit - 1) && (end = line.indexOf(separator, start)) != -1) {
+			cells.add(decode(line, start, end, moneySymbol));
+			start = end + 1;
+		}
+		if (cells.isEmpty())
+			return new String[] {decode(line, 0, line.length(), moneySymbol)};
+		cells.add(decode(line, start, line.length(), moneySymbol));
+		int size = cells.size();
+		if (splitLimit == 0) {
+			while (size > 0 && cells.get(size - 1).isEmpty())
+				size--;
+		}
+		return cells.subList(0, size).toArray(new String[size]);
+	}
+	/**
+	 * Returns the value between start (inclusive) and end (exclusive) of line with '|' replaced by ',', '^' by '\n', 
+	 * '&lt;q&gt;' by '"' and 'MONEY_SYMBOL' by moneySymbol. Only builds a new String if there is something to replace.
+	 */
+	private static String decode(final String line, final int start, final int end, final String moneySymbol) {
+		int i = start;
+		while (i < end && !isEscape(line, i, end))
+			i++;
+		if (i == end)
+			return line.substring(start, end);
+		final StringBuilder sb = new StringBuilder(end - start);
+		sb.append(line, start, i);
+		while (i < end) {
+			final char c = line.charAt(i);
+			if (c == '|') {
+				sb.append(',');
+				i++;
+			}
+			else if (c == '^') {
+				sb.append('\n');
+				i++;
+			}
+			else if (line.startsWith(QUOTE_ESCAPE, i) && i + QUOTE_ESCAPE.length() <= end) {
+				sb.append('"');
+				i += QUOTE_ESCAPE.length();
+			}
+			else if (line.startsWith(MONEY_ESCAPE, i) && i + MONEY_ESCAPE.length() <= end) {
+				sb.append(moneySymbol);
+				i += MONEY_ESCAPE.length();
+			}
+			else {
+				sb.append(c);
+				i++;
+			}
+		}
+		return sb.toString();
+	}
+	private static boolean isEscape(final String line, final int i, final int end) {
+		switch (line.charAt(i)) {
+		case '|':
+		case '^':
+			return true;
+		case '<':
+			return line.startsWith(QUOTE_ESCAPE, i) && i + QUOTE_ESCAPE.length() <= end;
+		case 'M':
+			return line.startsWith(MONEY_ESCAPE, i) && i + MONEY_ESCAPE.length() <= end;
+		default:
+			return false;
+		}
+	}
 
 }
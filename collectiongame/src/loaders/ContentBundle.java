@@ -0,0 +1,247 @@
+package loaders;
+
+import static gameutils.Constants.DEBUG;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A precompiled binary bundle of the rows every Loader reads in from InputFiles, so that the game can start without
+ * reading and splitting every CSV. Each distinct String is only stored once, and every row refers to its values by index.
+ * Next to the bundle is a manifest of the size and checksum of each CSV it was built from, and the bundle is ignored (and
+ * the CSVs read instead) once any of them change.
+ * <br>The bundle and manifest aren't checked in. To build them (e.g. when packaging the game), run main with the directory
+ * to write them to (by default resources/InputFiles)</br>
+ * @author David O'Sullivan
+ *
+ */
+public final class ContentBundle {
+	/**
+	 * The directory the bundle and manifest are read from
+	 */
+	private static final String DIRECTORY = "/InputFiles";
+	/**
+	 * Where the bundle is read from
+	 */
+	static final String BUNDLE_LOCATION = DIRECTORY + "/content.bundle";
+	/**
+	 * Where the manifest of the files the bundle was built from is read from
+	 */
+	static final String MANIFEST_LOCATION = DIRECTORY + "/content.manifest";
+	/**
+	 * Where main writes the bundle and manifest to if no directory is provided
+	 */
+	private static final String DEFAULT_OUTPUT_DIRECTORY = "resources" + DIRECTORY;
+	/**
+	 * Should be incremented whenever the layout of the bundle or manifest, or the way any Loader parses its files, changes
+	 */
+	private static final int FORMAT_VERSION = 2;
+	private ContentBundle() {
+
+	}
+	/**
+	 * Returns the manifest of the provided files: the format version, then the size, checksum and path of each file on its
+	 * own line, in order
+	 * @param paths the paths to the files
+	 * @return the manifest
+	 * @throws IOException if a file can't be found
+	 */
+	static String buildManifest(final List<String> paths) throws IOException {
+		final StringBuilder manifest = new StringBuilder();
+		manifest.append(FORMAT_VERSION).append('\n');
+		final byte[] buffer = new byte[8192];
+		for (final String path : paths) {
+			final CRC32 crc = new CRC32();
+			long size = 0;
+			try (InputStream resource = ContentBundle.class.getResourceAsStream(path)) {
+				if (resource == null)
+					throw new FileNotFoundException(path);
+				int read;
+				while ((read = resource.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+					size += read;
+				}
+			}
+			manifest.append(size).append('\t').append(crc.getValue()).append('\t').append(path).append('\n');
+		}
+		return manifest.toString();
+	}
+	/**
+	 * Returns true if the provided manifest lists exactly the provided files, in order, with their current sizes and checksums.
+	 * The sizes are compared first, so that most changes are found without reading the files.
+	 * @param manifest the lines of the manifest
+	 * @param paths the paths to the files
+	 * @return true if the bundle built along with the manifest is up to date
+	 * @throws IOException if a file can't be found
+	 */
+	private static boolean isUpToDate(final List<String> manifest, final List<String> paths) throws IOException {
+		if (manifest.size() != paths.size() + 1 || !manifest.get(0).equals(Integer.toString(FORMAT_VERSION)))
+			return false;
+		for (int i = 0; i < paths.size(); i++) {
+			final String[] entry = manifest.get(i + 1).split("\t", 3);
+			if (entry.length != 3 || !entry[2].equals(paths.get(i)) || Long.parseLong(entry[0]) != getSize(paths.get(i)))
+				return false;
+		}
+		return String.join("\n", manifest).concat("\n").equals(buildManifest(paths));
+	}
+	/**
+	 * Returns the size of the provided file without reading it
+	 * @param path the path to the file
+	 * @return the size of the file in bytes
+	 * @throws IOException if the file can't be found
+	 */
+	private static long getSize(final String path) throws IOException {
+		final URL url = ContentBundle.class.getResource(path);
+		if (url == null)
+			throw new FileNotFoundException(path);
+		if (url.getProtocol().equals("file")) {
+			try {
+				return new File(url.toURI()).length();
+			} catch (final URISyntaxException e) {
+				throw new IOException(e);
+			}
+		}
+		final URLConnection connection = url.openConnection();
+		connection.setUseCaches(false);
+		final long size = connection.getContentLengthLong();
+		if (size < 0)
+			throw new IOException("Unknown size: " + path);
+		return size;
+	}
+	/**
+	 * Returns the checksum of the provided manifest, which the bundle records so that a bundle is never used with the 
+	 * manifest of another
+	 */
+	private static long checksum(final String manifest) {
+		final CRC32 crc = new CRC32();
+		crc.update(manifest.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+	/**
+	 * Writes the provided rows out as a bundle, along with the manifest of the files they were read from
+	 * @param bundleOut the stream to write the bundle to
+	 * @param manifestOut the stream to write the manifest to
+	 * @param paths the paths to the files the rows were read from
+	 * @param rowsByPath map from the path of each file to the rows read in from it
+	 * @throws IOException if a file can't be found or a stream can't be written to
+	 */
+	static void write(final OutputStream bundleOut, final OutputStream manifestOut, final List<String> paths, final Map<String, List<String[]>> rowsByPath) throws IOException {
+		final String manifest = buildManifest(paths);
+		final Map<String, Integer> stringIndices = new HashMap<String, Integer>();
+		final List<String> strings = new ArrayList<String>();
+		for (final List<String[]> rows : rowsByPath.values()) {
+			for (final String[] row : rows) {
+				for (final String value : row) {
+					if (!stringIndices.containsKey(value)) {
+						stringIndices.put(value, strings.size());
+						strings.add(value);
+					}
+				}
+			}
+		}
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(bundleOut))) {
+			dos.writeInt(FORMAT_VERSION);
+			dos.writeLong(checksum(manifest));
+			dos.writeInt(strings.size());
+			for (final String s : strings)
+				dos.writeUTF(s);
+			dos.writeInt(rowsByPath.size());
+			for (final Map.Entry<String, List<String[]>> entry : rowsByPath.entrySet()) {
+				dos.writeUTF(entry.getKey());
+				dos.writeInt(entry.getValue().size());
+				for (final String[] row : entry.getValue()) {
+					dos.writeInt(row.length);
+					for (final String value : row)
+						dos.writeInt(stringIndices.get(value));
+				}
+			}
+		}
+		try (Writer writer = new OutputStreamWriter(manifestOut, StandardCharsets.UTF_8)) {
+			writer.write(manifest);
+		}
+	}
+	/**
+	 * Reads in the rows from the bundle, if there is a bundle and its manifest shows it was built from the provided files
+	 * as they are now.
+	 * @param paths the paths to the files the rows would be read from
+	 * @return map from the path of each file to the rows read in from it, or null if there is no bundle or it is out of date
+	 */
+	static Map<String, List<String[]>> read(final List<String> paths) {
+		final InputStream manifestResource = ContentBundle.class.getResourceAsStream(MANIFEST_LOCATION);
+		final InputStream resource = ContentBundle.class.getResourceAsStream(BUNDLE_LOCATION);
+		if (manifestResource == null || resource == null)
+			return null;
+		try (BufferedReader manifestReader = new BufferedReader(new InputStreamReader(manifestResource, StandardCharsets.UTF_8));
+				DataInputStream dis = new DataInputStream(new BufferedInputStream(resource))) {
+			final List<String> manifest = new ArrayList<String>();
+			String line;
+			while ((line = manifestReader.readLine()) != null)
+				manifest.add(line);
+			if (!isUpToDate(manifest, paths) || dis.readInt() != FORMAT_VERSION || dis.readLong() != checksum(String.join("\n", manifest).concat("\n"))) {
+				if (DEBUG)
+					System.out.println("Content bundle is out of date, reading from CSV");
+				return null;
+			}
+			final String[] strings = new String[dis.readInt()];
+			for (int i = 0; i < strings.length; i++)
+				strings[i] = dis.readUTF();
+			final int numPaths = dis.readInt();
+			final Map<String, List<String[]>> rowsByPath = new LinkedHashMap<String, List<String[]>>();
+			for (int i = 0; i < numPaths; i++) {
+				final String path = dis.readUTF();
+				final int numRows = dis.readInt();
+				final List<String[]> rows = new ArrayList<String[]>(numRows);
+				for (int j = 0; j < numRows; j++) {
+					final String[] row = new String[dis.readInt()];
+					for (int k = 0; k < row.length; k++)
+						row[k] = strings[dis.readInt()];
+					rows.add(row);
+				}
+				rowsByPath.put(path, rows);
+			}
+			return rowsByPath;
+		} catch (final IOException | ArrayIndexOutOfBoundsException | NumberFormatException e) {
+			if (DEBUG) {
+				System.out.println("Content bundle couldn't be read, reading from CSV");
+				e.printStackTrace();
+			}
+			return null;
+		}
+	}
+	/**
+	 * Reads in every file the loaders use from CSV and writes them out as a bundle, along with its manifest
+	 * @param args the directory to write the bundle and manifest to, or none to use the default directory
+	 * @throws IOException if the bundle or manifest can't be written
+	 */
+	public static void main(final String[] args) throws IOException {
+		final String outputDirectory = args.length > 0 ? args[0] : DEFAULT_OUTPUT_DIRECTORY;
+		final File bundleFile = new File(outputDirectory, new File(BUNDLE_LOCATION).getName());
+		final File manifestFile = new File(outputDirectory, new File(MANIFEST_LOCATION).getName());
+		try (OutputStream bundleOut = new FileOutputStream(bundleFile); OutputStream manifestOut = new FileOutputStream(manifestFile)) {
+			ThingFactory.getInstance().writeContentBundle(bundleOut, manifestOut);
+		}
+		System.out.println("Wrote content bundle to " + bundleFile + " and its manifest to " + manifestFile);
+	}
+}
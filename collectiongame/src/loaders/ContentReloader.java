@@ -0,0 +1,126 @@
+package loaders;
+
+import static gameutils.Constants.DEBUG;
+import static gameutils.Constants.HOT_RELOAD;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches the InputFiles directory on the classpath while the game is running. Whenever files the ThingFactory reads
+ * change, only those files are read in again, the templates are rebuilt, and the changes between the old and new templates
+ * are passed on so that they can be applied to the Things already in the game. Only used when HOT_RELOAD is on.
+ * @author David O'Sullivan
+ *
+ */
+public final class ContentReloader {
+	/**
+	 * The directory on the classpath that is watched
+	 */
+	private static final String INPUT_FILES = "/InputFiles/";
+	/**
+	 * How long to wait for more changes after a file changes before reloading, so that saving several files at once
+	 * (or an editor saving a file in more than one step) only reloads once
+	 */
+	private static final long SETTLE_MILLIS = 200;
+	private final WatchService watchService;
+	private final Consumer<TemplateChanges> onReload;
+	private final Thread watcher;
+	private ContentReloader(final Path directory, final Consumer<TemplateChanges> onReload) throws IOException {
+		this.onReload = onReload;
+		watchService = directory.getFileSystem().newWatchService();
+		directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+		watcher = new Thread(this::watch, "Content Reloader");
+		watcher.setDaemon(true);
+	}
+	/**
+	 * Starts watching the InputFiles directory on the classpath on a new thread
+	 * @param onReload called (on the watching thread) with the changes to the templates every time they are reloaded
+	 * and something changed
+	 * @return the ContentReloader that was started
+	 * @throws IOException if the directory can't be watched
+	 * @throws IllegalStateException if HOT_RELOAD is off, or InputFiles isn't a directory (e.g. it is inside a jar)
+	 */
+	public static ContentReloader start(final Consumer<TemplateChanges> onReload) throws IOException {
+		if (!HOT_RELOAD)
+			throw new IllegalStateException("Can only reload when HOT_RELOAD is on");
+		final URL url = ContentReloader.class.getResource(INPUT_FILES);
+		if (url == null || !"file".equals(url.getProtocol()))
+			throw new IllegalStateException("Can only reload InputFiles from a directory, not: " + url);
+		final Path directory;
+		try {
+			directory = Paths.get(url.toURI());
+		} catch (final URISyntaxException e) {
+			throw new IOException(e);
+		}
+		final ContentReloader reloader = new ContentReloader(directory, onReload);
+		reloader.watcher.start();
+		if (DEBUG)
+			System.out.println("Watching " + directory + " for changes");
+		return reloader;
+	}
+	/**
+	 * Stops watching for changes
+	 */
+	public void stop() {
+		watcher.interrupt();
+		try {
+			watchService.close();
+		} catch (final IOException e) {
+			e.printStackTrace();
+		}
+	}
+	private void watch() {
+		try {
+			while (true) {
+				final Set<String> changedPaths = new HashSet<String>();
+				addChangedPaths(watchService.take(), changedPaths);
+				WatchKey key;
+				while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null)
+					addChangedPaths(key, changedPaths);
+				changedPaths.removeIf(path -> !ThingFactory.getInstance().readsPath(path));
+				if (!changedPaths.isEmpty())
+					reload(changedPaths);
+			}
+		} catch (final InterruptedException | ClosedWatchServiceException e) {
+			// stopped
+		}
+	}
+	private static void addChangedPaths(final WatchKey key, final Set<String> changedPaths) {
+		for (final WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() != OVERFLOW)
+				changedPaths.add(INPUT_FILES + ((Path) event.context()).getFileName());
+		}
+		key.reset();
+	}
+	private void reload(final Set<String> changedPaths) {
+		final long start = System.nanoTime();
+		final TemplateChanges changes;
+		try {
+			changes = ThingFactory.reload(changedPaths);
+		} catch (final RuntimeException e) {
+			// e.g. a file that was only partly written, keep the current templates until it changes again
+			System.out.println("Couldn't reload " + changedPaths + ", keeping the current templates");
+			e.printStackTrace();
+			return;
+		}
+		if (DEBUG)
+			System.out.println(String.format("Reloaded %s in %.2f ms: %s", changedPaths, (System.nanoTime() - start) / 1e6, changes));
+		if (!changes.isEmpty())
+			onReload.accept(changes);
+	}
+}
@@ -1,8 +1,10 @@
 package loaders;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import attributes.AttributeName;
@@ -22,6 +24,10 @@ public class CreatureEvolutionLoader implements Loader {
 	private final Set<String> namesLoaded = new HashSet<String>();
 	private final ThingMap thingMap;
 	private static final int MAX_NUMBER_EVOLUTIONS = 3;
+	/**
+	 * The inputs read in from each path, null until parsed
+	 */
+	private List<String[]> parsedLevels, parsedEvolutions;
 	/**
 	 * Creates a new CreatureEvolutionLoader
 	 * @param pathToEvolutions the path to the CSV with the evolutions
@@ -34,20 +40,56 @@ public class CreatureEvolutionLoader implements Loader {
 		this.thingMap = thingMap;
 	}
 	/** 
-	 * @see loaders.Loader#load()
+	 * @see loaders.Loader#parse()
 	 */
 	@Override
-	public void load() {
+	public void parse() {
 		try {
-			for (final String[] values: CSVReader.readCSV(pathToLevelsOfEvolve)) {
-				loadLevel(values);
-			}
-			for (final String[] values : CSVReader.readCSV(pathToEvolutions, -1)) {
-				loadEvolution(values);
-			}
+			parsedLevels = CSVReader.readCSV(pathToLevelsOfEvolve);
+			parsedEvolutions = CSVReader.readCSV(pathToEvolutions, -1);
 		} catch (final IOException e) {
 			e.printStackTrace();
+			parsedLevels = parsedLevels == null ? new ArrayList<String[]>() : parsedLevels;
+			parsedEvolutions = new ArrayList<String[]>();
+		}
+	}
+	/** 
+	 * @see loaders.Loader#load()
+	 */
+	@Override
+	public void load() {
+		if (parsedLevels == null || parsedEvolutions == null)
+			parse();
+		for (final String[] values: parsedLevels) {
+			loadLevel(values);
 		}
+		for (final String[] values : parsedEvolutions) {
+			loadEvolution(values);
+		}
+		parsedLevels = null;
+		parsedEvolutions = null;
+	}
+	/** 
+	 * @see loaders.Loader#getPaths()
+	 */
+	@Override
+	public String[] getPaths() {
+		return new String[] {pathToLevelsOfEvolve, pathToEvolutions};
+	}
+	/** 
+	 * @see loaders.Loader#getParsed()
+	 */
+	@Override
+	public List<List<String[]>> getParsed() {
+		return parsedLevels == null || parsedEvolutions == null ? null : Arrays.asList(parsedLevels, parsedEvolutions);
+	}
+	/** 
+	 * @see loaders.Loader#setParsed(java.util.List)
+	 */
+	@Override
+	public void setParsed(final List<List<String[]>> parsed) {
+		parsedLevels = parsed.get(0);
+		parsedEvolutions = parsed.get(1);
 	}
 	private void loadLevel(final String[] values) {
 		final String name = values[0];
@@ -1,6 +1,8 @@
 package loaders;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import attributes.AttributeName;
 import thingFramework.Thing;
@@ -18,6 +20,10 @@ public class DescriptionLoader implements Loader {
 		private static final int DESC_INPUT_LENGTH = 2;
 		private static final int NAME_LOC = 0;
 		private static final int DESC_LOC = 1;
+		/**
+		 * The inputs read in from the path, null until parsed
+		 */
+		private List<String[]> parsedDescriptions;
 		/**
 		 * Creates a new Description Loader
 		 * @param pathToDescriptions the path to the CSV with descriptions
@@ -30,6 +36,17 @@ public class DescriptionLoader implements Loader {
 			this.eventBuilder = eventBuilder;
 
 		}
+		/** 
+		 * @see loaders.Loader#parse()
+		 */
+		@Override
+		public void parse() {
+			try {
+				parsedDescriptions = CSVReader.readCSV(pathToDescriptions, x -> x.replace("\"", ""), ":");
+			} catch (final IOException e) {
+				throw new RuntimeException("Failed to read descriptions from " + pathToDescriptions, e);
+			}
+		}
 		/**
 		 * <br>Assumes inputs of form:</br>
 		 * <br>Name: description</br>
@@ -38,28 +55,46 @@ public class DescriptionLoader implements Loader {
 		 */
 		@Override
 		public void load() {
-			try {
-				for (final String[] values : CSVReader.readCSV(pathToDescriptions, x -> x.replace("\"", ""), ":")) {
-					if (values.length < DESC_INPUT_LENGTH)
-						continue;
-					final String name = values[NAME_LOC];
-					if (!thingMap.hasThing(name)) 
-						continue;
-					final String description = values[DESC_LOC].trim();
-					thingMap.getThing(name).addAttribute(AttributeName.FLAVOR_DESCRIPTION, description);
-				}	
-				for (final Thing t: thingMap.viewThings()) {
-					final String name = t.getName();
-					if (eventBuilder.getEventDescription(name) != null) {
-						thingMap.getThing(name).addAttribute(AttributeName.EVENT_DESCRIPTION, eventBuilder.getEventDescription(name));
-					}
+			if (parsedDescriptions == null)
+				parse();
+			for (final String[] values : parsedDescriptions) {
+				if (values.length < DESC_INPUT_LENGTH)
+					continue;
+				final String name = values[NAME_LOC];
+				if (!thingMap.hasThing(name)) 
+					continue;
+				final String description = values[DESC_LOC].trim();
+				thingMap.getThing(name).addAttribute(AttributeName.FLAVOR_DESCRIPTION, description);
+			}	
+			parsedDescriptions = null;
+			for (final Thing t: thingMap.viewThings()) {
+				final String name = t.getName();
+				if (eventBuilder.getEventDescription(name) != null) {
+					thingMap.getThing(name).addAttribute(AttributeName.EVENT_DESCRIPTION, eventBuilder.getEventDescription(name));
 				}
-			
-			} catch (final IOException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
 			}
 
 		}
+		/** 
+		 * @see loaders.Loader#getPaths()
+		 */
+		@Override
+		public String[] getPaths() {
+			return new String[] {pathToDescriptions};
+		}
+		/** 
+		 * @see loaders.Loader#getParsed()
+		 */
+		@Override
+		public List<List<String[]>> getParsed() {
+			return parsedDescriptions == null ? null : Collections.singletonList(parsedDescriptions);
+		}
+		/** 
+		 * @see loaders.Loader#setParsed(java.util.List)
+		 */
+		@Override
+		public void setParsed(final List<List<String[]>> parsed) {
+			parsedDescriptions = parsed.get(0);
+		}
 	
 }
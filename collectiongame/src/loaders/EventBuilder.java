@@ -2,6 +2,8 @@ package loaders;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,10 @@ public class EventBuilder implements Loader  {
 	 * The Map between the name of the Thing and the description associated with it because it has a generated event
 	 */
 	private final Map<String, String> eventNameToDescription = new HashMap<String, String>();
+	/**
+	 * The Map between the name of the Thing and the event type and inputs of each event factory used for its events
+	 */
+	private final Map<String, List<List<String>>> eventNameToInputs = new HashMap<String, List<List<String>>>();
 	/**
 	 * Creates a new EventBuilder and places all default items to corresponding events
 	 */
@@ -32,6 +38,10 @@ public class EventBuilder implements Loader  {
 	private static final int START_OF_EVENTS_LOC = 2;
 	
 	private static final int THING_NAME_LOC = 0;
+	/**
+	 * The inputs read in from each path, null until parsed
+	 */
+	private List<List<String[]>> parsedEvents;
 	/**
 	 * Constructs a new EventBuilder with no paths and no thingMap
 	 */
@@ -46,21 +56,48 @@ public class EventBuilder implements Loader  {
 		this.paths = paths;
 	}
 	/** 
-	 * @see loaders.Loader#load()
+	 * @see loaders.Loader#parse()
 	 */
 	@Override
-	public void load() {
-		for (final String path : paths)
-			loadEventsFromPath(path);
-	}
-	private void loadEventsFromPath(final String path) {
-		List<String[]> CSV = null;
+	public void parse() {
 		try {
-			CSV = CSVReader.readCSV(path);
+			parsedEvents = CSVReader.readCSVs(paths);
 		} catch (final IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			throw new RuntimeException("Failed to read events from " + Arrays.toString(paths), e);
 		}
+	}
+	/** 
+	 * @see loaders.Loader#load()
+	 */
+	@Override
+	public void load() {
+		if (parsedEvents == null)
+			parse();
+		parsedEvents.forEach(this::loadEvents);
+		parsedEvents = null;
+	}
+	/** 
+	 * @see loaders.Loader#getPaths()
+	 */
+	@Override
+	public String[] getPaths() {
+		return paths.clone();
+	}
+	/** 
+	 * @see loaders.Loader#getParsed()
+	 */
+	@Override
+	public List<List<String[]>> getParsed() {
+		return parsedEvents;
+	}
+	/** 
+	 * @see loaders.Loader#setParsed(java.util.List)
+	 */
+	@Override
+	public void setParsed(final List<List<String[]>> parsed) {
+		parsedEvents = parsed;
+	}
+	private void loadEvents(final List<String[]> CSV) {
 		final String eventTypeName = CSV.get(EVENT_NAME_LOC)[EVENT_NAME_LOC];
 		for (int i = START_OF_EVENTS_LOC; i < CSV.size(); i++) {
 			final String[] values = CSV.get(i);
@@ -68,6 +105,10 @@ public class EventBuilder implements Loader  {
 			 final TypicalEventFactory eventFactory = TypicalEventFactory.getTypicalEventFactory(eventTypeName, values);
 			 mapEvents.merge(name, GameUtils.toArrayList(eventFactory.generateEvent()), (o, v) -> {o.addAll(v); return o;});
 			 eventNameToDescription.merge(name, eventFactory.getDescription(), (o, v) -> o + "\n" + v);
+			 final List<String> inputs = new ArrayList<String>();
+			 inputs.add(eventTypeName);
+			 inputs.addAll(Arrays.asList(eventFactory.getInputs()));
+			 eventNameToInputs.computeIfAbsent(name, k -> new ArrayList<List<String>>()).add(inputs);
 		}
 		
 		
@@ -88,6 +129,18 @@ public class EventBuilder implements Loader  {
 		}
 		return newEvents;
 	}
+	/**
+	 * Get all non-held template events built for the thing with the given name. These are shared, and so should 
+	 * only ever be copied (e.g. through Thing.addTemplateEvents), never added to a Thing directly.
+	 * @param name the name of the thing
+	 * @return the unmodifiable list of template events for that thing, empty if none
+	 */
+	public List<Event> getTemplateEvents(final String name) {
+		final List<Event> templateEvents = mapEvents.get(name);
+		if (templateEvents == null)
+			return Collections.emptyList();
+		return Collections.unmodifiableList(templateEvents);
+	}
 	/**
 
 	/**
@@ -98,5 +151,14 @@ public class EventBuilder implements Loader  {
 	public String getEventDescription(final String thingName) {
 		return eventNameToDescription.get(thingName);
 	}
+	/**
+	 * Get the event type and inputs of every event factory used to build the events of the specified thing, in the order
+	 * they were built. Two EventBuilders built the same events for a thing exactly when these are equal.
+	 * @param thingName the Name of thing to get the inputs for
+	 * @return the event type followed by the inputs, for each event factory. null if none
+	 */
+	List<List<String>> getEventInputs(final String thingName) {
+		return eventNameToInputs.get(thingName);
+	}
 
 }
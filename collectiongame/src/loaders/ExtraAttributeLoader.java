@@ -1,7 +1,9 @@
 package loaders;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import attributes.AttributeName;
@@ -18,6 +20,10 @@ public class ExtraAttributeLoader implements Loader {
 	private static final String CREATURE_SIGNIFY = "CREATURE";
 	private static final String ITEM_SIGNIFY = "ITEM";
 	private static final String ADD_FOR_REST_SIGNIFY = "ALL OTHERS";
+	/**
+	 * The inputs read in from each path, null until parsed
+	 */
+	private List<List<String[]>> parsedExtraAttributes;
 	/**
 	 * Creates a new ExtraAttributeLoader
 	 * @param thingMap the thingMap to add extrattributes to
@@ -27,14 +33,47 @@ public class ExtraAttributeLoader implements Loader {
 		this.thingMap = thingMap;
 		this.pathsToExtraAttributes = pathsToExtraAttributes;
 	}
+	/** 
+	 * @see loaders.Loader#parse()
+	 */
+	@Override
+	public void parse() {
+		try {
+			parsedExtraAttributes = CSVReader.readCSVs(pathsToExtraAttributes);
+		} catch (final IOException e) {
+			throw new RuntimeException("Failed to read extra attributes from " + Arrays.toString(pathsToExtraAttributes), e);
+		}
+	}
 	/** 
 	 * @see loaders.Loader#load()
 	 */
 	@Override
 	public void load() {
-		for (final String path: pathsToExtraAttributes) {
-			loadExtraAttributes(path);
-		}
+		if (parsedExtraAttributes == null)
+			parse();
+		parsedExtraAttributes.forEach(this::loadExtraAttributes);
+		parsedExtraAttributes = null;
+	}
+	/** 
+	 * @see loaders.Loader#getPaths()
+	 */
+	@Override
+	public String[] getPaths() {
+		return pathsToExtraAttributes.clone();
+	}
+	/** 
+	 * @see loaders.Loader#getParsed()
+	 */
+	@Override
+	public List<List<String[]>> getParsed() {
+		return parsedExtraAttributes;
+	}
+	/** 
+	 * @see loaders.Loader#setParsed(java.util.List)
+	 */
+	@Override
+	public void setParsed(final List<List<String[]>> parsed) {
+		parsedExtraAttributes = parsed;
 	}
 	/**
 	 * <br> Assumes sheets of the form:</br>
@@ -48,35 +87,30 @@ public class ExtraAttributeLoader implements Loader {
 	 * <br>Name can be mentioned on more than one line for different attributes</br>
 	 * <br>Names that don't exist can be mentioned, they will be ignored</br>
 	 */
-	private void loadExtraAttributes(final String pathToExtraAttributes) {
-		try {
-			final Set<String> visitedNames = new HashSet<String>();
-			ThingType type = null;
-			for (final String[] values : CSVReader.readCSV(pathToExtraAttributes)) {
-				final String potentialInput = values[0].toUpperCase().trim();
-				boolean onSignifyLine = false;
-				if (potentialInput.equalsIgnoreCase(CREATURE_SIGNIFY)) {
-					type = ThingType.CREATURE;
-					onSignifyLine = true;
-				}
-				if (potentialInput.equalsIgnoreCase(ITEM_SIGNIFY)) {
-					type = ThingType.ITEM;
-					onSignifyLine = true;
-				}
-				if (onSignifyLine) {
-					visitedNames.clear();
-				}
-				else if (potentialInput.equals(ADD_FOR_REST_SIGNIFY)) {
-					loadAttributesForAllOthers(values, visitedNames, type);
-				}
-				else {
-					visitedNames.add(values[0]);
-					loadExtraAttribute(values);
-				}
+	private void loadExtraAttributes(final List<String[]> inputs) {
+		final Set<String> visitedNames = new HashSet<String>();
+		ThingType type = null;
+		for (final String[] values : inputs) {
+			final String potentialInput = values[0].toUpperCase().trim();
+			boolean onSignifyLine = false;
+			if (potentialInput.equalsIgnoreCase(CREATURE_SIGNIFY)) {
+				type = ThingType.CREATURE;
+				onSignifyLine = true;
+			}
+			if (potentialInput.equalsIgnoreCase(ITEM_SIGNIFY)) {
+				type = ThingType.ITEM;
+				onSignifyLine = true;
+			}
+			if (onSignifyLine) {
+				visitedNames.clear();
+			}
+			else if (potentialInput.equals(ADD_FOR_REST_SIGNIFY)) {
+				loadAttributesForAllOthers(values, visitedNames, type);
+			}
+			else {
+				visitedNames.add(values[0]);
+				loadExtraAttribute(values);
 			}
-		} catch (final IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
 		}
 	}
 	private void loadExtraAttribute(final String[] values) {
@@ -1,5 +1,7 @@
 package loaders;
 
+import java.util.List;
+
 /**
  * Will load in various game data: things, attributes, events, etc. from a CSV file
  * @author David O'Sullivan
@@ -7,7 +9,30 @@ package loaders;
  */
 interface Loader {
 /**
- * Loads the data
+ * Reads in the data from file, without applying it to anything. This must not depend on any other Loader, so that
+ * every Loader can parse at the same time. By default does nothing.
+ * @throws RuntimeException if the data can't be read
+ */
+default void parse() {
+	
+}
+/**
+ * Loads the data. If parse() hasn't been called yet, this will read in the data as well.
  */
 void load();
+/**
+ * Returns the paths to every file this Loader reads in
+ * @return the paths to every file this Loader reads in
+ */
+String[] getPaths();
+/**
+ * Returns the rows read in by parse(), one list of rows for each path in getPaths() (in the same order)
+ * @return the rows read in by parse(), or null if parse() hasn't been called or the rows have already been loaded
+ */
+List<List<String[]>> getParsed();
+/**
+ * Uses the provided rows in place of reading them in from file, as if parse() had been called
+ * @param parsed one list of rows for each path in getPaths(), as returned by getParsed()
+ */
+void setParsed(List<List<String[]>> parsed);
 }
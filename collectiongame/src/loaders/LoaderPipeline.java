@@ -0,0 +1,143 @@
+package loaders;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a list of Loaders in two stages. First every Loader parses its files at the same time, as parsing only reads
+ * from files and doesn't depend on any other Loader. Then each Loader applies what it parsed one at a time, in the order
+ * of the list, so that Loaders that depend on the output of an earlier Loader (e.g. descriptions depending on events)
+ * still see it. Loaders can skip parsing by being given rows already read in (e.g. from a ContentBundle). Keeps track of how long each stage 
+ * took for each Loader.
+ * @author David O'Sullivan
+ *
+ */
+final class LoaderPipeline {
+	private final List<Loader> loaders;
+	private final long[] parseNanos;
+	private final long[] loadNanos;
+	/**
+	 * Whether each loader was given its rows (e.g. from a ContentBundle) rather than parsing them
+	 */
+	private final boolean[] preloaded;
+	/**
+	 * The rows every loader read in (or was given) on the last run
+	 */
+	private Map<String, List<String[]>> rowsByPath;
+	/**
+	 * Creates a new LoaderPipeline
+	 * @param loaders the loaders to run, in the order they should be applied
+	 */
+	LoaderPipeline(final List<Loader> loaders) {
+		this.loaders = loaders;
+		parseNanos = new long[loaders.size()];
+		loadNanos = new long[loaders.size()];
+		preloaded = new boolean[loaders.size()];
+	}
+	/**
+	 * Parses all loaders at the same time, then loads each of them in order. Loaders whose files all have rows in 
+	 * knownRows use those rows instead of parsing.
+	 * @param knownRows map from the path of each file to the rows already read from it (e.g. from a ContentBundle), 
+	 * or null to parse every loader
+	 * @throws RuntimeException if any loader failed while parsing
+	 */
+	void run(final Map<String, List<String[]>> knownRows) {
+		final List<Integer> toParse = new ArrayList<Integer>();
+		for (int i = 0; i < loaders.size(); i++) {
+			preloaded[i] = knownRows != null && setKnownRows(loaders.get(i), knownRows);
+			if (!preloaded[i])
+				toParse.add(i);
+		}
+		parseAll(toParse);
+		rowsByPath = collectRows();
+		for (int i = 0; i < loaders.size(); i++) {
+			final long start = System.nanoTime();
+			loaders.get(i).load();
+			loadNanos[i] = System.nanoTime() - start;
+		}
+	}
+	private static boolean setKnownRows(final Loader loader, final Map<String, List<String[]>> knownRows) {
+		final List<List<String[]>> parsed = new ArrayList<List<String[]>>();
+		for (final String path : loader.getPaths()) {
+			final List<String[]> rows = knownRows.get(path);
+			if (rows == null)
+				return false;
+			parsed.add(rows);
+		}
+		loader.setParsed(parsed);
+		return true;
+	}
+	/**
+	 * Parses every loader at the same time, and returns the rows each of them read in, without loading them
+	 * @return map from the path of every file to the rows read in from it
+	 * @throws RuntimeException if any loader failed while parsing
+	 */
+	Map<String, List<String[]>> parseRows() {
+		final List<Integer> toParse = new ArrayList<Integer>();
+		for (int i = 0; i < loaders.size(); i++)
+			toParse.add(i);
+		parseAll(toParse);
+		return collectRows();
+	}
+	/**
+	 * Returns the rows every loader read in (or was given) on the last run, before they were loaded
+	 * @return map from the path of every file to the rows read in from it, or null if run hasn't been called
+	 */
+	Map<String, List<String[]>> getRowsByPath() {
+		return rowsByPath;
+	}
+	private Map<String, List<String[]>> collectRows() {
+		final Map<String, List<String[]>> rowsByPath = new LinkedHashMap<String, List<String[]>>();
+		for (final Loader l : loaders) {
+			final String[] paths = l.getPaths();
+			final List<List<String[]>> parsed = l.getParsed();
+			for (int i = 0; i < paths.length; i++)
+				rowsByPath.put(paths[i], parsed.get(i));
+		}
+		return rowsByPath;
+	}
+	private void parseAll(final List<Integer> toParse) {
+		final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (final int index : toParse) {
+			tasks.add(() -> {
+				final long start = System.nanoTime();
+				loaders.get(index).parse();
+				parseNanos[index] = System.nanoTime() - start;
+				return null;
+			});
+		}
+		for (final Future<Void> f : ForkJoinPool.commonPool().invokeAll(tasks)) {
+			try {
+				f.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while parsing loaders", e);
+			} catch (final ExecutionException e) {
+				throw new RuntimeException("Failed to parse loader", e.getCause());
+			}
+		}
+	}
+	/**
+	 * Returns a report of how long each loader took to parse and to load, in milliseconds
+	 * @return the report
+	 */
+	String getTimingReport() {
+		final StringBuilder sb = new StringBuilder("Loader timings (parse/load ms):");
+		for (int i = 0; i < loaders.size(); i++) {
+			sb.append("\n");
+			sb.append(loaders.get(i).getClass().getSimpleName());
+			sb.append(": ");
+			if (preloaded[i])
+				sb.append(String.format("preloaded/%.2f", loadNanos[i] / 1e6));
+			else
+				sb.append(String.format("%.2f/%.2f", parseNanos[i] / 1e6, loadNanos[i] / 1e6));
+		}
+		return sb.toString();
+	}
+}
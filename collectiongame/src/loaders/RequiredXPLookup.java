@@ -1,9 +1,6 @@
 package loaders;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
 
 import thingFramework.ExperienceGroup;
 
@@ -13,15 +10,16 @@ import thingFramework.ExperienceGroup;
  *
  */
 public final class RequiredXPLookup {
-	private final String pathToXp = "resources/InputFiles/XPLookup.csv";
+	private static final String XP_LOOKUP_LOCATION = "/InputFiles/XPLookup.csv";
 	/**
-	 * Map From The Level to an array of integers containing both the total XP you'd have to be to be at that level as well as the amount of additional XP needed to get to the next level
+	 * The minimum total XP to be at each level, indexed by [ExperienceGroup ordinal][level]. Index 0 of each group is unused.
 	 */
-	private final Map<Integer, Integer[]> levelToXP = new HashMap<Integer, Integer[]>();
+	private final int[][] minXPAtLevel = new int[ExperienceGroup.values().length][LAST_LEVEL+1];
 	/**
-	 * Map from the ExperienceGroup (as an ordinal) to a Map mapping XP to level
+	 * The XP needed to get from the minimum XP at each level to the next level, indexed by [ExperienceGroup ordinal][level].
+	 * 0 at the last level.
 	 */
-	private final Map<Integer, TreeMap<Integer, Integer>> xpToLevels = new HashMap<Integer, TreeMap<Integer, Integer>>();
+	private final int[][] xpToNextLevel = new int[ExperienceGroup.values().length][LAST_LEVEL+1];
 	private static final RequiredXPLookup INSTANCE = new RequiredXPLookup();
 	private static final int LAST_LEVEL = 100;
 	/**
@@ -41,7 +39,7 @@ public final class RequiredXPLookup {
 	 * @return the minimum amount of xp to be considered a member of the given level
 	 */
 	public int getMinXPAtLevel(final ExperienceGroup eg, final int level) {
-		return levelToXP.get(level)[eg.ordinal()];
+		return minXPAtLevel[eg.ordinal()][level];
 	}
 	/**
 	 * Returns the amount of XP required to advance to the next level, given the current level and the current TOTAL Xp
@@ -52,7 +50,7 @@ public final class RequiredXPLookup {
 	 */
 	public  int getAmountOfXPToNextLevel(final ExperienceGroup eg, final int level, final int currentTotalXP) {
 		final int minXP = getMinXPAtLevel(eg, level);
-		if (level == 100)
+		if (level == LAST_LEVEL)
 			return 0;
 		final int minXpNextLevel = getMinXPAtLevel(eg, level+1);
 		if (currentTotalXP < minXP || currentTotalXP >=minXpNextLevel)
@@ -85,11 +83,54 @@ public final class RequiredXPLookup {
 	 * @param eg the ExperienceGroup
 	 * @param currentTotalXP the current total xp of the creature
 	 * @return The current level of the Creature given it's current TOTAL xp
+	 * @throws IllegalArgumentException if currentTotalXP is negative
 	 */
 	public  int getLevelFromCurrentXP(final ExperienceGroup eg, final int currentTotalXP) {
-		if (xpToLevels.get(eg.ordinal()).containsKey(currentTotalXP))
-			return xpToLevels.get(eg.ordinal()).get(currentTotalXP);
-		else return xpToLevels.get(eg.ordinal()).lowerEntry(currentTotalXP).getValue();
+		if (currentTotalXP < 0)
+			throw new IllegalArgumentException("Total XP can't be negative: " + currentTotalXP);
+		return levelFromXP(minXPAtLevel[eg.ordinal()], currentTotalXP);
+	}
+	/**
+	 * Brings each of the provided levels up to date with the matching total XP, for many Creatures of the same
+	 * ExperienceGroup at once. Each current level is checked first, so Creatures that haven't crossed a level boundary
+	 * (nearly all of them, most of the time) cost two comparisons. Doesn't allocate.
+	 * @param eg the ExperienceGroup of every Creature
+	 * @param currentTotalXPs the current total xp of each Creature
+	 * @param levels the current level of each Creature, which will be set to the level matching its total xp
+	 * @param count how many entries of currentTotalXPs and levels to update, starting from 0
+	 * @return how many of the levels changed
+	 * @throws IllegalArgumentException if any of the total xps is negative
+	 */
+	public int updateLevels(final ExperienceGroup eg, final int[] currentTotalXPs, final int[] levels, final int count) {
+		final int[] minXP = minXPAtLevel[eg.ordinal()];
+		int numChanged = 0;
+		for (int i = 0; i < count; i++) {
+			final int xp = currentTotalXPs[i];
+			final int level = levels[i];
+			if (level >= 1 && level <= LAST_LEVEL && xp >= minXP[level] && (level == LAST_LEVEL || xp < minXP[level+1]))
+				continue;
+			if (xp < 0)
+				throw new IllegalArgumentException("Total XP can't be negative: " + xp);
+			levels[i] = levelFromXP(minXP, xp);
+			if (levels[i] != level)
+				numChanged++;
+		}
+		return numChanged;
+	}
+	/**
+	 * Returns the highest level whose minimum xp is at most the provided xp
+	 */
+	private static int levelFromXP(final int[] minXP, final int xp) {
+		int low = 1;
+		int high = LAST_LEVEL;
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			if (minXP[mid] <= xp)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
 	}
 	/**
 	 * Returns the amount of xp required to advance to the level after the given level assuming the current XP 
@@ -100,9 +141,7 @@ public final class RequiredXPLookup {
 	 * is at the bare minimum for the given level
 	 */
 	public  int getAmountOfXPToNextLevelFromBase(final ExperienceGroup eg, final int level) {
-		if (level == 100)
-			return 0;
-		else return levelToXP.get(level)[eg.ordinal()+7];
+		return xpToNextLevel[eg.ordinal()][level];
 	}
 	/**
 	 * Returns the experience level at level 100 (the maximum amount of experience a Creature can have)
@@ -110,32 +149,26 @@ public final class RequiredXPLookup {
 	 * @return the experience level at level 100 (the maximum amount of experience a Creature can have)
 	 */
 	public  int getLevel100XP(final ExperienceGroup eg) {
-		return getMinXPAtLevel(eg, 100);
+		return getMinXPAtLevel(eg, LAST_LEVEL);
+	}
+	/**
+	 * Returns the highest level a Creature can be
+	 * @return the highest level a Creature can be
+	 */
+	public int getLastLevel() {
+		return LAST_LEVEL;
 	}
 	private RequiredXPLookup() {
-		int j =0;
+		final int numGroups = ExperienceGroup.values().length;
 		try {
-			for (final String[] values: CSVReader.readCSV(pathToXp)) {
-				final Integer level = Integer.parseInt(values[LEVEL_LOC]); //the level associated with that xp
-				final Integer[] xpVals = new Integer[values.length];
-				for (int i =0; i < values.length; i++) {
-					if ((i!=LEVEL_LOC && j!=LAST_LEVEL-1) || (j == LAST_LEVEL-1 && i <LEVEL_LOC))
-						xpVals[i]= Integer.parseInt(values[i]);
-				}
-				levelToXP.put(level, xpVals);
-				for (final ExperienceGroup eg : ExperienceGroup.values()) {
-					final int XP = Integer.parseInt(values[eg.ordinal()]);
-					if (!xpToLevels.containsKey(eg.ordinal())) {
-						final TreeMap<Integer, Integer> newMap = new TreeMap<Integer, Integer>();
-						newMap.put(XP, level);
-						xpToLevels.put(eg.ordinal(), newMap);
-					}
-					else {
-						xpToLevels.get(eg.ordinal()).put(XP, level);
-					}
+			CSVReader.readCSV(XP_LOOKUP_LOCATION, null, ",", 0, false, values -> {
+				final int level = Integer.parseInt(values[LEVEL_LOC]); //the level associated with that xp
+				for (int eg = 0; eg < numGroups; eg++) {
+					minXPAtLevel[eg][level] = Integer.parseInt(values[eg]);
+					if (level != LAST_LEVEL)
+						xpToNextLevel[eg][level] = Integer.parseInt(values[LEVEL_LOC+1+eg]);
 				}
-				j++;
-			}
+			});
 		} catch (final NumberFormatException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
@@ -0,0 +1,130 @@
+package loaders;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import attributes.AttributeName;
+import thingFramework.Thing;
+
+/**
+ * An inverted index of the attributes of all the Thing templates, built once all templates are loaded. For every AttributeName
+ * it maps the name of each template that has that attribute to its value, and each value to the names of the templates that
+ * have it, so that queries on the templates never have to go through every template.
+ * @author David O'Sullivan
+ *
+ */
+final class TemplateAttributeIndex {
+	/**
+	 * The index of each attribute over all templates
+	 */
+	private final Map<AttributeName<?>, ValueIndex<?>> allThings = new HashMap<AttributeName<?>, ValueIndex<?>>();
+	/**
+	 * The index of each attribute over the templates of each ThingType
+	 */
+	private final Map<ThingType, Map<AttributeName<?>, ValueIndex<?>>> thingsOfType = new EnumMap<ThingType, Map<AttributeName<?>, ValueIndex<?>>>(ThingType.class);
+	/**
+	 * Creates a new TemplateAttributeIndex of the provided templates. The templates should not change after this is created.
+	 * @param templates the templates to index
+	 */
+	TemplateAttributeIndex(final ThingMap templates) {
+		for (final ThingType type : ThingType.values())
+			thingsOfType.put(type, new HashMap<AttributeName<?>, ValueIndex<?>>());
+		for (final AttributeName<?> attributeName : AttributeName.getAllAttributeNames()) {
+			allThings.put(attributeName, buildIndex(attributeName, templates.viewThings()));
+			for (final ThingType type : ThingType.values())
+				thingsOfType.get(type).put(attributeName, buildIndex(attributeName, templates.viewThings(type)));
+		}
+	}
+	private static <T> ValueIndex<T> buildIndex(final AttributeName<T> attributeName, final Collection<? extends Thing> things) {
+		final ValueIndex<T> index = new ValueIndex<T>();
+		for (final Thing t : things) {
+			if (t.containsAttribute(attributeName))
+				index.add(t.getName(), t.getAttributeValue(attributeName));
+		}
+		index.finish();
+		return index;
+	}
+	/**
+	 * Returns a map from the name of every template that has the provided attribute to the value of that attribute
+	 * @param <T> the type of the attribute
+	 * @param attributeName the name of the attribute
+	 * @param type the type of template to include, or null to include all templates
+	 * @return an unmodifiable map from template name to attribute value
+	 */
+	<T> Map<String, T> getValues(final AttributeName<T> attributeName, final ThingType type) {
+		return getIndex(attributeName, type).values;
+	}
+	/**
+	 * Returns the names of all templates whose attribute of the provided name has the provided value
+	 * @param <T> the type of the attribute
+	 * @param attributeName the name of the attribute
+	 * @param value the value of the attribute
+	 * @param type the type of template to include, or null to include all templates
+	 * @return an unmodifiable set of the names of all such templates
+	 */
+	<T> Set<String> getNamesWithValue(final AttributeName<T> attributeName, final T value, final ThingType type) {
+		return getIndex(attributeName, type).namesByValue.getOrDefault(value, Collections.emptySet());
+	}
+	/**
+	 * Returns the names of all templates whose attribute of the provided name has a value between min and max (inclusive)
+	 * @param <T> the type of the attribute
+	 * @param attributeName the name of the attribute
+	 * @param min the smallest value to include
+	 * @param max the largest value to include
+	 * @param type the type of template to include, or null to include all templates
+	 * @return an unmodifiable set of the names of all such templates
+	 * @throws IllegalArgumentException if the values of the attribute can't be ordered
+	 */
+	<T extends Comparable<? super T>> Set<String> getNamesInRange(final AttributeName<T> attributeName, final T min, final T max, final ThingType type) {
+		final ValueIndex<T> index = getIndex(attributeName, type);
+		if (!(index.namesByValue instanceof NavigableMap))
+			throw new IllegalArgumentException("Values of " + attributeName + " can't be ordered");
+		if (min.compareTo(max) > 0)
+			return Collections.emptySet();
+		final Set<String> names = new HashSet<String>();
+		((NavigableMap<T, Set<String>>) index.namesByValue).subMap(min, true, max, true).values().forEach(names::addAll);
+		return Collections.unmodifiableSet(names);
+	}
+	@SuppressWarnings("unchecked")
+	private <T> ValueIndex<T> getIndex(final AttributeName<T> attributeName, final ThingType type) {
+		final Map<AttributeName<?>, ValueIndex<?>> indexes = type == null ? allThings : thingsOfType.get(type);
+		return (ValueIndex<T>) indexes.get(attributeName);
+	}
+	/**
+	 * The index of a single attribute
+	 * @param <T> the type of the attribute
+	 */
+	private static final class ValueIndex<T> {
+		private Map<String, T> values = new HashMap<String, T>();
+		/**
+		 * Sorted if every value can be ordered, so that range queries can be answered
+		 */
+		private Map<T, Set<String>> namesByValue;
+		private void add(final String name, final T value) {
+			values.put(name, value);
+		}
+		private void finish() {
+			boolean orderable = true;
+			for (final T value : values.values()) {
+				if (value != null && !(value instanceof Comparable)) {
+					orderable = false;
+					break;
+				}
+			}
+			namesByValue = orderable ? new TreeMap<T, Set<String>>() : new HashMap<T, Set<String>>();
+			for (final Map.Entry<String, T> entry : values.entrySet()) {
+				if (entry.getValue() != null)
+					namesByValue.computeIfAbsent(entry.getValue(), v -> new HashSet<String>()).add(entry.getKey());
+			}
+			namesByValue.replaceAll((v, names) -> Collections.unmodifiableSet(names));
+			values = Collections.unmodifiableMap(values);
+		}
+	}
+}
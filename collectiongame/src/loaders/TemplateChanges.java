@@ -0,0 +1,195 @@
+package loaders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import attributes.AttributeName;
+import effects.Event;
+import gameutils.EnumSetHolder;
+import thingFramework.Thing;
+
+/**
+ * The differences between two versions of the Thing templates, found when the InputFiles are reloaded. These can be
+ * applied to Things made from the old templates to bring them up to date without having to make them again.
+ * <br>Attributes are only changed on a Thing if it still has the old template's value for them, so that values that
+ * changed in game (levels, modifiers, etc.) are kept. Attributes that are generated when loaded (e.g. at random) are never
+ * changed, just as they wouldn't be for a Thing in a save file when the game restarts.</br>
+ * @author David O'Sullivan
+ *
+ */
+public final class TemplateChanges {
+	/**
+	 * Map from the name of each changed template to the changes to its attributes
+	 */
+	private final Map<String, List<AttributeChange<?>>> attributeChanges = new HashMap<String, List<AttributeChange<?>>>();
+	/**
+	 * Map from the name of each template whose events changed to its new template events
+	 */
+	private final Map<String, List<Event>> eventChanges = new HashMap<String, List<Event>>();
+	private final Set<String> addedNames = new HashSet<String>();
+	private final Set<String> removedNames = new HashSet<String>();
+	private int numAttributeChanges = 0;
+	private TemplateChanges() {
+
+	}
+	/**
+	 * Finds the changes between the old and new templates
+	 * @param oldTemplates the templates before reloading
+	 * @param newTemplates the templates after reloading
+	 * @param oldEvents the EventBuilder before reloading
+	 * @param newEvents the EventBuilder after reloading
+	 * @param generatedAttributeNames returns the names of the attributes of the template with the provided name that
+	 * were generated when loaded, and so shouldn't be compared
+	 * @return the changes between the old and new templates
+	 */
+	static TemplateChanges between(final ThingMap oldTemplates, final ThingMap newTemplates, final EventBuilder oldEvents, final EventBuilder newEvents, final Function<String, Set<AttributeName<?>>> generatedAttributeNames) {
+		final TemplateChanges changes = new TemplateChanges();
+		for (final Thing oldTemplate : oldTemplates.viewThings()) {
+			if (!newTemplates.hasThing(oldTemplate.getName()))
+				changes.removedNames.add(oldTemplate.getName());
+		}
+		for (final Thing newTemplate : newTemplates.viewThings()) {
+			final String name = newTemplate.getName();
+			if (!oldTemplates.hasThing(name)) {
+				changes.addedNames.add(name);
+				continue;
+			}
+			final Thing oldTemplate = oldTemplates.getThing(name);
+			final Set<AttributeName<?>> generated = generatedAttributeNames.apply(name);
+			final List<AttributeChange<?>> thingChanges = new ArrayList<AttributeChange<?>>();
+			for (final AttributeName<?> attributeName : AttributeName.getAllAttributeNames()) {
+				if (!generated.contains(attributeName)) {
+					final AttributeChange<?> change = AttributeChange.between(attributeName, oldTemplate, newTemplate);
+					if (change != null)
+						thingChanges.add(change);
+				}
+			}
+			if (!thingChanges.isEmpty()) {
+				changes.attributeChanges.put(name, thingChanges);
+				changes.numAttributeChanges += thingChanges.size();
+			}
+			if (!Objects.equals(oldEvents.getEventInputs(name), newEvents.getEventInputs(name)))
+				changes.eventChanges.put(name, newEvents.getTemplateEvents(name));
+		}
+		return changes;
+	}
+	/**
+	 * Brings the provided Thing up to date with its template
+	 * @param thing the Thing to update. Should have been made from the old templates.
+	 * @return true if anything about the Thing changed
+	 */
+	public boolean applyTo(final Thing thing) {
+		boolean changed = false;
+		final List<AttributeChange<?>> thingChanges = attributeChanges.get(thing.getName());
+		if (thingChanges != null) {
+			for (final AttributeChange<?> change : thingChanges)
+				changed |= change.applyTo(thing);
+		}
+		final List<Event> events = eventChanges.get(thing.getName());
+		if (events != null) {
+			thing.replaceTemplateEvents(events);
+			changed = true;
+		}
+		return changed;
+	}
+	/**
+	 * Returns true if no template changed, and none were added or removed
+	 * @return true if no template changed, and none were added or removed
+	 */
+	public boolean isEmpty() {
+		return attributeChanges.isEmpty() && eventChanges.isEmpty() && addedNames.isEmpty() && removedNames.isEmpty();
+	}
+	/**
+	 * Returns the names of all the templates whose attributes or events changed
+	 * @return the names of all the templates whose attributes or events changed
+	 */
+	public Set<String> getChangedNames() {
+		final Set<String> names = new HashSet<String>(attributeChanges.keySet());
+		names.addAll(eventChanges.keySet());
+		return Collections.unmodifiableSet(names);
+	}
+	/**
+	 * Returns true if any templates were added or removed
+	 * @return true if any templates were added or removed
+	 */
+	public boolean templatesAddedOrRemoved() {
+		return !addedNames.isEmpty() || !removedNames.isEmpty();
+	}
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return numAttributeChanges + " attribute changes across " + attributeChanges.size() + " templates, "
+				+ eventChanges.size() + " templates with new events, " + addedNames.size() + " added, " + removedNames.size() + " removed";
+	}
+	/**
+	 * A change to a single attribute of a template
+	 * @param <T> the type of the attribute
+	 */
+	private static final class AttributeChange<T> {
+		private final AttributeName<T> attributeName;
+		private final boolean hadOldValue;
+		private final T oldValue;
+		private final boolean hasNewValue;
+		private final T newValue;
+		private AttributeChange(final AttributeName<T> attributeName, final boolean hadOldValue, final T oldValue, final boolean hasNewValue, final T newValue) {
+			this.attributeName = attributeName;
+			this.hadOldValue = hadOldValue;
+			this.oldValue = oldValue;
+			this.hasNewValue = hasNewValue;
+			this.newValue = newValue;
+		}
+		/**
+		 * Returns the change to the provided attribute between the old and new template, or null if it didn't change
+		 */
+		private static <T> AttributeChange<T> between(final AttributeName<T> attributeName, final Thing oldTemplate, final Thing newTemplate) {
+			final boolean hadOldValue = oldTemplate.containsAttribute(attributeName);
+			final boolean hasNewValue = newTemplate.containsAttribute(attributeName);
+			final T oldValue = hadOldValue ? oldTemplate.getAttributeValue(attributeName) : null;
+			final T newValue = hasNewValue ? newTemplate.getAttributeValue(attributeName) : null;
+			if (hadOldValue == hasNewValue && Objects.equals(oldValue, newValue))
+				return null;
+			return new AttributeChange<T>(attributeName, hadOldValue, oldValue, hasNewValue, newValue);
+		}
+		/**
+		 * Applies this change to the Thing, if it still has the old template's value
+		 * @return true if the Thing was changed
+		 */
+		private boolean applyTo(final Thing thing) {
+			final boolean has = thing.containsAttribute(attributeName);
+			if (!hadOldValue) {
+				if (has)
+					return false;
+				thing.addAttribute(attributeName, copyOf(newValue));
+				return true;
+			}
+			if (!has || !Objects.equals(thing.getAttributeValue(attributeName), oldValue))
+				return false;
+			if (hasNewValue)
+				thing.setAttributeValue(attributeName, copyOf(newValue));
+			else
+				thing.removeAttribute(attributeName);
+			return true;
+		}
+		/**
+		 * Returns a copy of the provided template value if it can be changed, so that the Thing never shares it with the
+		 * template. EnumSetHolders and Lists are the only mutable attribute values.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <T> T copyOf(final T value) {
+			if (value instanceof EnumSetHolder)
+				return (T) ((EnumSetHolder<?>) value).makeCopy();
+			if (value instanceof List)
+				return (T) new ArrayList<Object>((List<?>) value);
+			return value;
+		}
+	}
+}
@@ -1,14 +1,23 @@
 package loaders;
 
+import static gameutils.Constants.DEBUG;
+import static gameutils.Constants.HOT_RELOAD;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import attributes.AttributeName;
+import attributes.attributegenerators.AttributeGenerator;
+import model.RandomStreams;
+import model.RandomStreams.Stream;
 import thingFramework.Creature;
 import thingFramework.Item;
 import thingFramework.Thing;
@@ -22,6 +31,16 @@ public final class ThingFactory {
 	private final EventBuilder eb;
 	private final ThingMap thingTemplates;
 	private final List<Loader> loaders;
+	/**
+	 * Index of the attribute values of all the templates, built once all loaders have run
+	 */
+	private TemplateAttributeIndex templateIndex;
+	/**
+	 * The rows read in from every file, kept so that only changed files need to be read again when reloading. Only kept 
+	 * when HOT_RELOAD is on.
+	 */
+	private Map<String, List<String[]>> rowsByPath;
+	private ThingLoader thingLoader;
 	/**
 	 * The location of the levels of evolution
 	 */
@@ -57,7 +76,10 @@ public final class ThingFactory {
 	 */
 	private static final String PATH_TO_DESCRIPTIONS = "/InputFiles/descriptionList.csv";
 	
-	private static final ThingFactory INSTANCE = new ThingFactory(THING_LIST_LOCATIONS, PATH_TO_DESCRIPTIONS, EVENT_MAP_HEADER, NUMBER_OF_EVENT_MAP_LISTS, EVOLUTIONS_LOCATION, LEVELS_OF_EVOLUTION_LOCATION, getInputFileSeries(NUMBER_OF_EXTRA_ATTRIBUTE_LISTS, EXTRA_ATTRIBUTE_HEADER));
+	/**
+	 * The instance of ThingFactory. Only ever replaced when reloading.
+	 */
+	private static volatile ThingFactory instance = newDefaultFactory(null);
 	private ThingFactory(final String pathToEventsHeader, final int numberOfEventLists) {
 		thingTemplates = new ThingMap();
 		loaders = new ArrayList<Loader>();
@@ -71,17 +93,27 @@ public final class ThingFactory {
 	}
 	private ThingFactory(final String[] pathToThings, final String pathToEventsHeader, final int numberOfEventLists) {
 		this(pathToEventsHeader, numberOfEventLists);
-		loaders.add(new ThingLoader(this, pathToThings));
+		thingLoader = new ThingLoader(this, pathToThings);
+		loaders.add(thingLoader);
 		loaders.add(eb);
-		loadAllLoaders();
+		loadAllLoaders(null);
 	}
-	private ThingFactory(final String[] pathToThings, final String pathToDescriptions, final String pathToEventsHeader,final int numberOfEventLists, final String pathToEvolutions, final String pathToLevelsOfEvolve, final String... pathsToExtraAttributes) {
+	private ThingFactory(final Map<String, List<String[]>> knownRows, final String[] pathToThings, final String pathToDescriptions, final String pathToEventsHeader,final int numberOfEventLists, final String pathToEvolutions, final String pathToLevelsOfEvolve, final String... pathsToExtraAttributes) {
 		this(pathToEventsHeader, numberOfEventLists);
-		loaders.add(new ThingLoader(this, pathToThings, new ExtraAttributeLoader(thingTemplates, pathsToExtraAttributes)));
+		thingLoader = new ThingLoader(this, pathToThings, new ExtraAttributeLoader(thingTemplates, pathsToExtraAttributes));
+		loaders.add(thingLoader);
 		loaders.add(eb);
 		loaders.add(new CreatureEvolutionLoader(pathToEvolutions, pathToLevelsOfEvolve, thingTemplates));
 		loaders.add(new DescriptionLoader(pathToDescriptions, thingTemplates, eb));
-		loadAllLoaders();
+		loadAllLoaders(knownRows);
+	}
+	/**
+	 * Creates a ThingFactory that loads from the default locations
+	 * @param knownRows map from paths to rows already read in from them, to use instead of reading those paths again. 
+	 * null to read every path.
+	 */
+	private static ThingFactory newDefaultFactory(final Map<String, List<String[]>> knownRows) {
+		return new ThingFactory(knownRows, THING_LIST_LOCATIONS, PATH_TO_DESCRIPTIONS, EVENT_MAP_HEADER, NUMBER_OF_EVENT_MAP_LISTS, EVOLUTIONS_LOCATION, LEVELS_OF_EVOLUTION_LOCATION, getInputFileSeries(NUMBER_OF_EXTRA_ATTRIBUTE_LISTS, EXTRA_ATTRIBUTE_HEADER));
 	}
 	private static String[] getInputFileSeries(final int numberOfFiles, final String header) {
 		final String[] eventMaps = new String[numberOfFiles];
@@ -104,15 +136,75 @@ public final class ThingFactory {
 	void addNewItemTemplate(final Item template) {
 		thingTemplates.addItem(template);
 	}
-	private void loadAllLoaders() {
-		loaders.forEach(l -> l.load());
+	private void loadAllLoaders(final Map<String, List<String[]>> knownRows) {
+		final LoaderPipeline pipeline = new LoaderPipeline(loaders);
+		pipeline.run(knownRows != null ? knownRows : ContentBundle.read(getPaths()));
+		if (DEBUG)
+			System.out.println(pipeline.getTimingReport());
+		if (HOT_RELOAD)
+			rowsByPath = pipeline.getRowsByPath();
+		templateIndex = new TemplateAttributeIndex(thingTemplates);
+	}
+	/**
+	 * Returns true if one of the loaders reads in the file with the provided path
+	 * @param path the path to the file
+	 * @return true if one of the loaders reads in the file with the provided path
+	 */
+	boolean readsPath(final String path) {
+		for (final Loader l : loaders) {
+			if (Arrays.asList(l.getPaths()).contains(path))
+				return true;
+		}
+		return false;
+	}
+	/**
+	 * Loads every template again and replaces the instance with the result. Only the files in changedPaths are read in
+	 * again, the rest reuse the rows that were read in last time. Things already made from the old templates are left as
+	 * they are, but the returned changes can be applied to them.
+	 * @param changedPaths the paths to the files that changed
+	 * @return the changes between the old and new templates
+	 * @throws IllegalStateException if HOT_RELOAD is off
+	 */
+	static synchronized TemplateChanges reload(final Collection<String> changedPaths) {
+		if (!HOT_RELOAD)
+			throw new IllegalStateException("Can only reload when HOT_RELOAD is on");
+		final ThingFactory old = instance;
+		final Map<String, List<String[]>> knownRows = new HashMap<String, List<String[]>>(old.rowsByPath);
+		knownRows.keySet().removeAll(changedPaths);
+		final ThingFactory reloaded = newDefaultFactory(knownRows);
+		final TemplateChanges changes = TemplateChanges.between(old.thingTemplates, reloaded.thingTemplates, old.eb, reloaded.eb, name -> {
+			final Set<AttributeName<?>> generated = new HashSet<AttributeName<?>>(old.thingLoader.getGeneratedAttributeNames(name));
+			generated.addAll(reloaded.thingLoader.getGeneratedAttributeNames(name));
+			return generated;
+		});
+		instance = reloaded;
+		return changes;
+	}
+	/**
+	 * Returns the paths to every file read in by the loaders, in order
+	 */
+	private List<String> getPaths() {
+		final List<String> paths = new ArrayList<String>();
+		for (final Loader l : loaders)
+			paths.addAll(Arrays.asList(l.getPaths()));
+		return paths;
+	}
+	/**
+	 * Parses the files of every loader again and writes the rows out as a ContentBundle, along with the manifest of the 
+	 * files, which will be used in place of the files for as long as they don't change
+	 * @param bundleOut the stream to write the bundle to
+	 * @param manifestOut the stream to write the manifest to
+	 * @throws IOException if a file can't be found or a stream can't be written to
+	 */
+	void writeContentBundle(final OutputStream bundleOut, final OutputStream manifestOut) throws IOException {
+		ContentBundle.write(bundleOut, manifestOut, getPaths(), new LoaderPipeline(loaders).parseRows());
 	}
 	/**
 	 * Returns the instance of ThingFactory
 	 * @return the instance of ThingFactory
 	 */
 	public static ThingFactory getInstance() {
-		return INSTANCE;
+		return instance;
 	}
 	/**
 	 * Returns the description of the provided thing
@@ -137,7 +229,7 @@ public final class ThingFactory {
 	 */
 	public Thing generateNewThing(final String name) {
 		final Thing t = thingTemplates.getThing(name).makeCopy();
-		t.addToEventList(eb.getNewEvents(name));
+		t.addTemplateEvents(eb.getTemplateEvents(name));
 		return t;
 	}
 	/**
@@ -147,7 +239,22 @@ public final class ThingFactory {
 	 */
 	public Creature generateNewCreature(final String name) {
 		final Creature creature = thingTemplates.getCreature(name).makeCopy();
-		creature.addToEventList(eb.getNewEvents(name));
+		creature.addTemplateEvents(eb.getTemplateEvents(name));
+		return creature;
+	}
+	/**
+	 * Creates a new instance of the Creature with the given name as with generateNewCreature(name), but with its generated 
+	 * attributes (e.g. gpm) generated from the provided RandomStreams instead of being those of the template. Creatures
+	 * of the same name always get the same attributes from RandomStreams with the same seed.
+	 * @param name the name of the Creature
+	 * @param randomStreams the random numbers of the model the Creature is for
+	 * @return The new thing. Throws NullPointerException if not present
+	 */
+	public Creature generateNewCreature(final String name, final RandomStreams randomStreams) {
+		final Creature creature = generateNewCreature(name);
+		final AttributeGenerator generator = thingLoader.getAttributeGenerator(name);
+		if (generator != null)
+			creature.addGeneratedAttributes(generator, randomStreams.getKeyed(Stream.ATTRIBUTE_GEN, name));
 		return creature;
 	}
 	/**
@@ -157,7 +264,7 @@ public final class ThingFactory {
 	 */
 	public Item generateNewItem(final String name) {
 		final Item i = thingTemplates.getItem(name).makeCopy();
-		i.addToEventList(eb.getNewEvents(name));
+		i.addTemplateEvents(eb.getTemplateEvents(name));
 		return i;
 	}
 	
@@ -173,45 +280,30 @@ public final class ThingFactory {
 	 * Returns a map from the names of things to the values of their attributes of the provided name
 	 * @param <T> the type of the attribute
 	 * @param attributeName the name of the attribute to get the values for
-	 * @return the map from names to attribute value for the provided attribute type
+	 * @return the unmodifiable map from names to attribute value for the provided attribute type
 	 */
 	public final <T> Map<String, T> mapFromSetToAttributeValue(final AttributeName<T> attributeName) {
-		return mapFromSetToAttributeValue(attributeName, thingTemplates.viewThings());
-	}
-	private final <T> Map<String, T> mapFromSetToAttributeValue(final AttributeName<T> attributeName, final Collection<? extends Thing> collectionToIterate) {
-		final Map<String, T> mapping = new HashMap<String, T>();
-		for (final Thing t : collectionToIterate) {
-			if (!t.containsAttribute(attributeName))
-				continue;
-			final T value = t.getAttributeValue(attributeName);
-			mapping.put(t.getName(), value);
-		}
-		return mapping;
+		return templateIndex.getValues(attributeName, null);
 	}
 	/**
 	 * Returns a map from the names of things of the given type to the values of their attributes of the provided name
 	 * @param <T> the type of the attribute
 	 * @param attributeName the name of the attribute to get the values for
 	 * @param thingType of the type of thing to get
-	 * @return the map from names to attribute value for the provided attribute type
+	 * @return the unmodifiable map from names to attribute value for the provided attribute type
 	 */
 	public final <T> Map<String, T> mapFromSetToAttributeValue(final AttributeName<T> attributeName, final ThingType thingType) {
-		return mapFromSetToAttributeValue(attributeName, thingTemplates.viewThings(thingType));
-	}
-	private final <T> Set<String> getThingsWithAttributeVal(final AttributeName<T> attributeName, final T desiredValue, final Collection<? extends Thing> collectionToIterate) {
-		return mapFromSetToAttributeValue(attributeName, collectionToIterate).entrySet().stream()
-				.filter(val -> val.getValue().equals(desiredValue)).
-				collect(Collectors.toMap(val -> val.getKey(), val -> val.getValue())).keySet();
+		return templateIndex.getValues(attributeName, thingType);
 	}
 	/**
 	 * Returns the set of things with the desired attribute value
 	 * @param <T> the type of the attribute
 	 * @param attributeName the name of the attribute
 	 * @param desiredValue the desired value for the attribute
-	 * @return the set of all things that have that attribute and have the desired value for that attribute
+	 * @return the unmodifiable set of all things that have that attribute and have the desired value for that attribute
 	 */
 	public final <T> Set<String> getThingsWithAttributeVal(final AttributeName<T> attributeName, final T desiredValue) {
-		return getThingsWithAttributeVal(attributeName, desiredValue, thingTemplates.viewThings());
+		return templateIndex.getNamesWithValue(attributeName, desiredValue, null);
 	}
 	/**
 	 * Returns the set of things of the given type with the desired attribute value
@@ -219,12 +311,34 @@ public final class ThingFactory {
 	 * @param attributeName the name of the attribute
 	 * @param desiredValue the desired value for the attribute
 	 * @param type the type of thing to get
-	 * @return the set of all things that have that attribute and have the desired value for that attribute
+	 * @return the unmodifiable set of all things that have that attribute and have the desired value for that attribute
 	 */
 	public final <T> Set<String> getThingsWithAttributeVal(final AttributeName<T> attributeName, final T desiredValue, final ThingType type) {
-		return mapFromSetToAttributeValue(attributeName, thingTemplates.viewThings(type)).entrySet().stream()
-				.filter(p -> p.getValue().equals(desiredValue)).
-				collect(Collectors.toMap(p -> p.getKey(), p -> p.getValue())).keySet();
+		return templateIndex.getNamesWithValue(attributeName, desiredValue, type);
+	}
+	/**
+	 * Returns the set of things whose value for the provided attribute is between min and max (inclusive), e.g. all
+	 * creatures with a rarity between 3 and 5
+	 * @param <T> the type of the attribute
+	 * @param attributeName the name of the attribute
+	 * @param min the smallest value to include
+	 * @param max the largest value to include
+	 * @return the unmodifiable set of all things that have that attribute with a value in the range
+	 */
+	public final <T extends Comparable<? super T>> Set<String> getThingsWithAttributeInRange(final AttributeName<T> attributeName, final T min, final T max) {
+		return templateIndex.getNamesInRange(attributeName, min, max, null);
+	}
+	/**
+	 * Returns the set of things of the given type whose value for the provided attribute is between min and max (inclusive)
+	 * @param <T> the type of the attribute
+	 * @param attributeName the name of the attribute
+	 * @param min the smallest value to include
+	 * @param max the largest value to include
+	 * @param type the type of thing to get
+	 * @return the unmodifiable set of all things of that type that have that attribute with a value in the range
+	 */
+	public final <T extends Comparable<? super T>> Set<String> getThingsWithAttributeInRange(final AttributeName<T> attributeName, final T min, final T max, final ThingType type) {
+		return templateIndex.getNamesInRange(attributeName, min, max, type);
 	}
 	
 	
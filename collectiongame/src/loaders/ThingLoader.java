@@ -1,15 +1,24 @@
 package loaders;
 
+import static gameutils.Constants.HOT_RELOAD;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
 import attributes.AttributeName;
 import attributes.attributegenerators.AttributeGenerator;
 import attributes.attributegenerators.AttributeGenerators;
+import gameutils.RandomStream;
+import model.RandomStreams;
+import model.RandomStreams.Stream;
 import thingFramework.Creature;
 import thingFramework.Item;
 import thingFramework.Thing;
@@ -25,6 +34,25 @@ class ThingLoader implements Loader {
 	private final ExtraAttributeLoader extraAttributeLoader;
 	private final boolean hasExtraAttributeLoader;
 	private final Map<Thing, AttributeGenerator> genAttributeThings = new HashMap<Thing, AttributeGenerator>();
+	/**
+	 * Map from the name of each Thing with generated attributes to the AttributeGenerator used, filled in on load
+	 */
+	private final Map<String, AttributeGenerator> generatorsByName = new HashMap<String, AttributeGenerator>();
+	/**
+	 * The random numbers the generated attributes of the templates come from. Models generate their own from their seed for
+	 * every Creature they create (see ThingFactory#generateNewCreature(String, RandomStreams)), so the templates' are only
+	 * seen outside of a model.
+	 */
+	private static final RandomStreams TEMPLATE_RANDOM = new RandomStreams(0);
+	/**
+	 * The inputs read in from each path, null until parsed
+	 */
+	private List<List<String[]>> parsedThings;
+	/**
+	 * Map from the name of each Thing with generated attributes to the names of those attributes. Only kept track of when
+	 * HOT_RELOAD is on.
+	 */
+	private final Map<String, Set<AttributeName<?>>> generatedAttributeNames = new HashMap<String, Set<AttributeName<?>>>();
 	private static final int NAME_LOC = 1;
 	private static final int IMAGE_LOC = 2;
 	private static final int ATTRIBUTE_LOC = 3;
@@ -56,17 +84,107 @@ class ThingLoader implements Loader {
 		this.extraAttributeLoader = extraAttributeLoader; //TODO: Construct own extraAttributeLoader rather than have it passed in
 		hasExtraAttributeLoader = true;
 	}
+	/** 
+	 * Also parses the ExtraAttributeLoader (if there is one) at the same time
+	 * @see loaders.Loader#parse()
+	 */
+	@Override
+	public void parse() {
+		if (hasExtraAttributeLoader)
+			ForkJoinTask.invokeAll(ForkJoinTask.adapt(this::parseThings), ForkJoinTask.adapt(extraAttributeLoader::parse));
+		else
+			parseThings();
+	}
+	/** 
+	 * Includes the paths of the ExtraAttributeLoader (if there is one)
+	 * @see loaders.Loader#getPaths()
+	 */
+	@Override
+	public String[] getPaths() {
+		if (!hasExtraAttributeLoader)
+			return pathToThings.clone();
+		final String[] extraPaths = extraAttributeLoader.getPaths();
+		final String[] paths = Arrays.copyOf(pathToThings, pathToThings.length + extraPaths.length);
+		System.arraycopy(extraPaths, 0, paths, pathToThings.length, extraPaths.length);
+		return paths;
+	}
+	/** 
+	 * Includes the rows of the ExtraAttributeLoader (if there is one), after the rows of this loader
+	 * @see loaders.Loader#getParsed()
+	 */
+	@Override
+	public List<List<String[]>> getParsed() {
+		if (!hasExtraAttributeLoader)
+			return parsedThings;
+		final List<List<String[]>> extraParsed = extraAttributeLoader.getParsed();
+		if (parsedThings == null || extraParsed == null)
+			return null;
+		final List<List<String[]>> parsed = new ArrayList<List<String[]>>(parsedThings);
+		parsed.addAll(extraParsed);
+		return parsed;
+	}
+	/** 
+	 * @see loaders.Loader#setParsed(java.util.List)
+	 */
+	@Override
+	public void setParsed(final List<List<String[]>> parsed) {
+		parsedThings = parsed.subList(0, pathToThings.length);
+		if (hasExtraAttributeLoader)
+			extraAttributeLoader.setParsed(parsed.subList(pathToThings.length, parsed.size()));
+	}
+	/**
+	 * Returns the names of the attributes of the Thing with the provided name that were generated when loaded (e.g. at random),
+	 * rather than read in. Only kept track of when HOT_RELOAD is on.
+	 * @param name the name of the Thing
+	 * @return the names of the generated attributes, empty if none or if HOT_RELOAD is off
+	 */
+	Set<AttributeName<?>> getGeneratedAttributeNames(final String name) {
+		return generatedAttributeNames.getOrDefault(name, Collections.emptySet());
+	}
+	private void parseThings() {
+		try {
+			parsedThings = CSVReader.readCSVs(pathToThings);
+		} catch (final IOException e) {
+			throw new RuntimeException("Failed to read things from " + Arrays.toString(pathToThings), e);
+		}
+	}
 	/** 
 	 * @see loaders.Loader#load()
 	 */
 	@Override
 	public void load() {
-		for (final String path : pathToThings)
-			loadPath(path);
+		if (parsedThings == null)
+			parseThings();
+		parsedThings.forEach(this::loadThings);
+		parsedThings = null;
 		if (hasExtraAttributeLoader) {
 			extraAttributeLoader.load();
 		}
-		genAttributeThings.forEach((t, ag) -> t.addGeneratedAttributes(ag));
+		genAttributeThings.forEach((t, ag) -> {
+			generatorsByName.put(t.getName(), ag);
+			final RandomStream random = TEMPLATE_RANDOM.getKeyed(Stream.ATTRIBUTE_GEN, t.getName());
+			if (HOT_RELOAD) {
+				final Set<AttributeName<?>> generated = new HashSet<AttributeName<?>>();
+				for (final AttributeName<?> attributeName : AttributeName.getAllAttributeNames()) {
+					if (!t.containsAttribute(attributeName))
+						generated.add(attributeName);
+				}
+				t.addGeneratedAttributes(ag, random);
+				generated.removeIf(attributeName -> !t.containsAttribute(attributeName));
+				generatedAttributeNames.put(t.getName(), generated);
+			}
+			else {
+				t.addGeneratedAttributes(ag, random);
+			}
+		});
+	}
+	/**
+	 * Returns the AttributeGenerator of the Thing with the provided name
+	 * @param name the name of the Thing
+	 * @return the AttributeGenerator used for that Thing's attributes, or null if it has none generated
+	 */
+	AttributeGenerator getAttributeGenerator(final String name) {
+		return generatorsByName.get(name);
 	}
 	/**
 	 * <br> Assumes inputs of the form: </br> 
@@ -78,18 +196,13 @@ class ThingLoader implements Loader {
 	 * <br> ... </br> 
 	 * <br> Duplicates SHOULD NOT appear in list</br>
 	 */
-	private void loadPath(final String path) {
-		try {
-			for (final String[] values : CSVReader.readCSV(path)) {
-				final String type = values[0];
-				if (type.equals(CREATURE_SIGNIFY))
-					loadCreature(values);
-				else if (type.equals(ITEM_SIGNIFY))
-					loadItem(values);
-			}
-		} catch (final IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+	private void loadThings(final List<String[]> inputs) {
+		for (final String[] values : inputs) {
+			final String type = values[0];
+			if (type.equals(CREATURE_SIGNIFY))
+				loadCreature(values);
+			else if (type.equals(ITEM_SIGNIFY))
+				loadItem(values);
 		}
 	}
 	private void loadCreature(final String[] values) {
@@ -1,10 +1,13 @@
 package loaders.eventbuilder.generatedevents;
 
+import static gameutils.Constants.OFFLINE_CATCH_UP;
+
 import attributes.AttributeName;
 import effects.Event;
 import effects.OnPeriodEventWithDisplay;
 import gameutils.GameUtils;
 import gui.guiutils.GuiUtils;
+import model.RandomStreams.Stream;
 
 /**
  * Constructs events that periodically have a certain percent chance of generating more gold
@@ -40,9 +43,12 @@ public class RandomGoldEventFactory extends TypicalEventFactory{
 	@Override
 	public Event generateEvent() {
 		final Event randomGold = new OnPeriodEventWithDisplay( model -> {
-			if (GameUtils.testPercentChance(percentChance))
+			if (GameUtils.testPercentChance(model.getRandom(Stream.EVENTS), percentChance))
 				model.addGold(gold);
 		}, periodInMinutes, AttributeName.EVENT_DESCRIPTION);
+		randomGold.setOnMultiplePeriods((model, periods) -> 
+			model.addGold((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, GameUtils.numSuccesses(model.getRandom(Stream.EVENTS), periods, percentChance) * gold))));
+		randomGold.setKeepTrackWhileOff(OFFLINE_CATCH_UP);
 		return randomGold;
 	}
 
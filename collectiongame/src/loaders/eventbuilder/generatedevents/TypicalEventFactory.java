@@ -117,10 +117,10 @@ public abstract class TypicalEventFactory implements Serializable { //have to im
 		MASS_REMOVAL;
 	}
 	/**
-	 * Returns the inputs for this TypicalEventFactory
+	 * Returns the inputs for this TypicalEventFactory. These are shared, and so should never be changed.
 	 * @return the inputs for this TypicalEventFactory
 	 */
-	protected String[] getInputs() {
+	public String[] getInputs() {
 		return inputs;
 	}
 }
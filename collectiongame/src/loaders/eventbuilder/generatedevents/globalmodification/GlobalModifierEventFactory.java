@@ -18,6 +18,7 @@ import interfaces.SerializableConsumer;
 import interfaces.SerializablePredicate;
 import loaders.eventbuilder.generatedevents.TypicalEventFactory;
 import modifiers.Modifier;
+import modifiers.ModifierTarget;
 import thingFramework.Thing;
 
 /**
@@ -142,13 +143,25 @@ public class GlobalModifierEventFactory<T> extends TypicalEventFactory {
 	 * @return the generated Modifiers
 	 */
 	Modifier[] generateModifier(final SerializablePredicate<Thing> shouldModify) {
+		return generateModifier(shouldModify, null);
+	}
+	/**
+	 * Generates the modifiers for the GlobalModifierEvent, which only modify the provided target
+	 * @param target the Things that the modifier should modify
+	 * @return the generated Modifiers
+	 */
+	Modifier[] generateModifier(final ModifierTarget target) {
+		return generateModifier(null, target);
+	}
+	private Modifier[] generateModifier(final SerializablePredicate<Thing> shouldModify, final ModifierTarget target) {
 		final Modifier[] modifiers = new Modifier[attributesToModify.size()];
 		for (int i = 0; i < attributesToModify.size(); i++) {
 			final AttributeName<T> attributeToModify = attributesToModify.get(i);
 			final SerializableConsumer<Thing> modification = createModification(attributeToModify, shouldRemoveAfter, false);
 			final SerializableConsumer<Thing> reverseModification =  createModification(attributeToModify, shouldRemoveReverseAfter, true);
 				
-			modifiers[i] = new Modifier(timeToExist, shouldModify, modification, reverseModification);
+			modifiers[i] = target != null ? new Modifier(timeToExist, target, modification, reverseModification) 
+					: new Modifier(timeToExist, shouldModify, modification, reverseModification);
 		}
 		return modifiers;
 		
@@ -4,7 +4,7 @@ import attributes.AttributeName;
 import attributes.ParseType;
 import effects.GlobalModifierOption;
 import modifiers.Modifier;
-import thingFramework.Thing;
+import modifiers.ModifierTarget;
 
 /**
  * Generates events that create Global Modifiers that only modify Things that have attribuets with particular value(s)
@@ -21,6 +21,11 @@ public class TargetedGlobalModifierEventFactory<T> extends GlobalModifierEventFa
 	private final AttributeName<?> attributeName;
 	private final String[] acceptableAttributeValues;
 	private final String verbalDescription;
+	/**
+	 * The Things the modifiers should modify, parsed from the acceptable attribute values. Only access through getTarget, 
+	 * as factories saved before this was kept won't have one.
+	 */
+	private ModifierTarget target;
 
 	private static final int VERBAL_DESCRIPTION_LOC = 9;
 	private static final int CATEGORY_NAME_LOC = 10;
@@ -36,18 +41,14 @@ public class TargetedGlobalModifierEventFactory<T> extends GlobalModifierEventFa
 		verbalDescription = getInputs()[VERBAL_DESCRIPTION_LOC];
 		attributeName = AttributeName.getAttributeName(getInputs()[CATEGORY_NAME_LOC]);
 		acceptableAttributeValues = getInputs()[CATEGORY_VALUE_LOC].split(ATTRIBUTE_VALUE_DELIMITER);
-
+		target = new ModifierTarget(attributeName, acceptableAttributeValues);
 	}
 	/** 
 	 * @see loaders.eventbuilder.generatedevents.globalmodification.GlobalModifierEventFactory#generateModifier()
 	 */
 	@Override
 	Modifier[] generateModifier() {
-		return super.generateModifier(t -> {
-			if(!t.containsAttribute(attributeName))
-				return false;
-			return hasValidAttributeValue(t);
-		});
+		return super.generateModifier(getTarget());
 	}
 	/** 
 	 * @see loaders.eventbuilder.generatedevents.globalmodification.GlobalModifierEventFactory#globalOptionToName(effects.GlobalModifierOption)
@@ -56,16 +57,9 @@ public class TargetedGlobalModifierEventFactory<T> extends GlobalModifierEventFa
 	String globalOptionToName(final GlobalModifierOption option) {
 		return verbalDescription + " " + super.globalOptionToName(option);
 	}
-	private boolean hasValidAttributeValue(final Thing t) {
-		boolean isValid = false;
-		for (final String acceptableAttributeValue : acceptableAttributeValues) {
-			if (attributeName.equals(AttributeName.TYPE)) {
-				isValid = isValid || t.getAttributeValue(AttributeName.TYPE).containsValueParse(acceptableAttributeValue);
-			}
-			else {
-				isValid = isValid || t.attributeValueEqualsParse(attributeName, acceptableAttributeValue);
-			}
-		}
-		return isValid;
+	private ModifierTarget getTarget() {
+		if (target == null)
+			target = new ModifierTarget(attributeName, acceptableAttributeValues);
+		return target;
 	}
 }
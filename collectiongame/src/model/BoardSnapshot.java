@@ -0,0 +1,72 @@
+package model;
+
+import java.util.Collections;
+import java.util.Map;
+
+import thingFramework.Thing;
+
+/**
+ * An immutable view of the state of a model at the end of an update. The view layer reads from this instead of
+ * the live model, so that it never has to wait on the model. Each snapshot has a version, which only changes when
+ * the state it holds changes, so the view can skip work when the version is the same as what it last rendered.
+ * @author David O'Sullivan
+ */
+public final class BoardSnapshot {
+	private final long version;
+	private final int gold;
+	private final int popularity;
+	private final int numCreaturesWaiting;
+	private final Map<Thing, String> descriptions;
+	/**
+	 * Creates a new BoardSnapshot
+	 * @param version the version of this snapshot
+	 * @param gold the amount of gold the model has
+	 * @param popularity the amount of popularity the model has
+	 * @param numCreaturesWaiting the number of wild creatures waiting in the queue
+	 * @param descriptions map from each Thing on the model to its description (including any timers). This map should
+	 * not be modified after being passed in.
+	 */
+	public BoardSnapshot(final long version, final int gold, final int popularity, final int numCreaturesWaiting, final Map<Thing, String> descriptions) {
+		this.version = version;
+		this.gold = gold;
+		this.popularity = popularity;
+		this.numCreaturesWaiting = numCreaturesWaiting;
+		this.descriptions = Collections.unmodifiableMap(descriptions);
+	}
+	/**
+	 * Returns the version of this snapshot. Snapshots with the same version hold the same state.
+	 * @return the version of this snapshot
+	 */
+	public long getVersion() {
+		return version;
+	}
+	/**
+	 * Returns the amount of gold the model had
+	 * @return the amount of gold the model had
+	 */
+	public int getGold() {
+		return gold;
+	}
+	/**
+	 * Returns the amount of popularity the model had
+	 * @return the amount of popularity the model had
+	 */
+	public int getPopularity() {
+		return popularity;
+	}
+	/**
+	 * Returns the number of wild creatures that were waiting in the queue
+	 * @return the number of wild creatures that were waiting in the queue
+	 */
+	public int getNumCreaturesWaiting() {
+		return numCreaturesWaiting;
+	}
+	/**
+	 * Returns the description of the provided Thing
+	 * @param thing the Thing to get the description of
+	 * @return the description of the Thing, or null if the Thing wasn't on the model
+	 */
+	public String getDescription(final Thing thing) {
+		return descriptions.get(thing);
+	}
+}
@@ -0,0 +1,15 @@
+package model;
+
+import java.io.Serializable;
+
+/**
+ * The source of time used to measure the passage of game time
+ * @author David O'Sullivan
+ */
+public interface GameClock extends Serializable {
+	/**
+	 * Returns the current time in milliseconds
+	 * @return the current time in milliseconds
+	 */
+	long currentTimeMillis();
+}
@@ -1,4 +1,6 @@
 package model;
+import static gameutils.Constants.OFFLINE_CATCH_UP;
+
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -39,10 +41,14 @@ public final class ModelAttributeManager implements AttributeManagerObserver<Int
 		switch (nameOfEvent) {
 		case "gph":
 			event = new OnPeriodEventWithDisplay(model -> model.addGold( valueOfEvent), 60, AttributeName.GPH, holder);
+			setGoldPerPeriod(event, valueOfEvent);
+			event.setKeepTrackWhileOff(OFFLINE_CATCH_UP);
 			event.addToName("GPH: ");
 			break;
 		case "gpm":
 			event =  new OnPeriodEventWithDisplay(model -> model.addGold(valueOfEvent), 1, AttributeName.GPM, holder);
+			setGoldPerPeriod(event, valueOfEvent);
+			event.setKeepTrackWhileOff(OFFLINE_CATCH_UP);
 			event.addToName("GPM: ");
 			break;
 		case "popularity boost":
@@ -54,13 +60,23 @@ public final class ModelAttributeManager implements AttributeManagerObserver<Int
 		}
 		return event;
 	}
+	/**
+	 * Sets the provided event to add the provided amount of gold every period. Elapsed periods are settled in a 
+	 * single addGold call.
+	 * @param e the event to set
+	 * @param gold the amount of gold to add every period
+	 */
+	private static void setGoldPerPeriod(final Event e, final int gold) {
+		e.setOnPeriod(model -> model.addGold(gold));
+		e.setOnMultiplePeriods((model, periods) -> model.addGold((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, periods * gold))));
+	}
 	private void modifyModelEvent(final String AttributeName, final Event e, final int newValue) {
 		switch(AttributeName) {
 		case "gph":
-			e.setOnPeriod(model -> model.addGold(newValue));
+			setGoldPerPeriod(e, newValue);
 			break;
 		case "gpm":
-			e.setOnPeriod(model -> model.addGold(newValue));
+			setGoldPerPeriod(e, newValue);
 			break;
 		case "popularity boost":
 			e.setOnPlace(model -> model.addPopularity(newValue));
@@ -1,11 +1,15 @@
 package model;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 import effects.CustomPeriodEvent;
 import effects.Event;
 import effects.EventManager;
 import effects.GlobalModifierOption;
+import gameutils.RandomStream;
+import loaders.TemplateChanges;
 import modifiers.Modifier;
 import thingFramework.Creature;
 import thingFramework.Item;
@@ -33,6 +37,20 @@ public interface ModelInterface extends Serializable {
 	 */
 	void removeThing(Thing thing);
 
+	/**
+	 * Adds all of the provided things to the model at once. This has the same result as calling addThing on each,
+	 * but only looks up the current global modifiers once.
+	 * @param things the things to add
+	 */
+	void addThings(Collection<? extends Thing> things);
+
+	/**
+	 * Removes all of the provided things from the model at once. This has the same result as calling removeThing on each,
+	 * but only looks up the current global modifiers once.
+	 * @param things the things to remove
+	 */
+	void removeThings(Collection<? extends Thing> things);
+
 	/**
 	 * To be called whenever the game is rebooted, regardless of time of last save
 	 */
@@ -81,6 +99,12 @@ public interface ModelInterface extends Serializable {
 	 */
 	long getTotalInGameTime();
 
+	/**
+	 * Returns the state of the model as of the end of the last update. This can be read from any thread 
+	 * without waiting on the model.
+	 * @return the last published snapshot, or null if the model hasn't been updated yet
+	 */
+	BoardSnapshot getSnapshot();
 	/**
 	 * Returns the amount of gold that the model has
 	 * @return the amount of gold that the model has
@@ -162,6 +186,13 @@ public interface ModelInterface extends Serializable {
 	 * @return The Creature that was confirmed to be grabbed
 	 */
 	Creature confirmGrab();
+	
+	/**
+	 * Confirm removal of creature from queue because it was let go rather than placed. The creature may be reused for a
+	 * future wild creature, and so shouldn't be used by the caller after this is called. 
+	 * @return The Creature that was let go
+	 */
+	Creature releaseGrab();
 
 	/**
 	 * @return the currently Grabbed Creature
@@ -200,6 +231,12 @@ public interface ModelInterface extends Serializable {
 	 */
 	void removeGlobalModifier(Modifier mod);
 
+	/**
+	 * Brings every Thing on the model, and every wild creature waiting, up to date with changes to the templates they were made from
+	 * @param changes the changes to the templates
+	 */
+	void applyTemplateChanges(TemplateChanges changes);
+
 	/**
 	 * Add the provided thing to queue of things that the model wants to remove
 	 * @param t
@@ -217,6 +254,34 @@ public interface ModelInterface extends Serializable {
 	 */
 	Thing getNextRemoveRequest();
 
+	/**
+	 * Removes and returns all the things that the model is currently requesting to remove
+	 * @return the things the model is requesting to remove, in the order they were requested (empty if none)
+	 */
+	List<Thing> getAllRemoveRequests();
+
+	/**
+	 * Removes and returns all the creatures on the model that have reached the level they evolve at. Each should be passed
+	 * to evolveCreature once whatever is displaying it is ready for it to be replaced.
+	 * @return the creatures that are ready to evolve, in the order they became ready (empty if none)
+	 */
+	List<Creature> getAllEvolveRequests();
+
+	/**
+	 * Replaces the provided creature on the model with a new creature of its next evolution, which keeps its experience
+	 * @param creature the creature to evolve
+	 * @return the creature it evolved into, or null if it isn't on the model or has no evolution
+	 */
+	Creature evolveCreature(Creature creature);
+
+	/**
+	 * Returns the source of random numbers for the provided part of the game. These are saved with the model, so that
+	 * a model created with the same seed will always get the same random numbers.
+	 * @param stream the part of the game the random numbers are for
+	 * @return the RandomStream for that part of the game
+	 */
+	RandomStream getRandom(RandomStreams.Stream stream);
+
 	/**
 	 * Returns a formatted string representation of the legendary percent chance, look for new creature period, chance that on a new creature period a creature is found
 	 * @return the formatted string showing advanced model stats
@@ -254,6 +319,15 @@ public interface ModelInterface extends Serializable {
 	 */
 	void lookForCreature();
 
+	/**
+	 * Looks for n creatures at once, with the same chances as calling lookForCreature n times, and adds the ones found to
+	 * the wild creatures waiting (as long as there is room). Useful when many creatures should be looked for at the same 
+	 * time, as the creatures found are all created at once. 
+	 * @param n the number of times to look for a creature
+	 * @return the number of creatures that were found and added
+	 */
+	int lookForCreatures(int n);
+
 	/**
 	 * Returns the period at which the game checks for new creatures
 	 * @return The period at which the game checks for new creatures.
@@ -0,0 +1,92 @@
+package model;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+import gameutils.RandomStream;
+
+/**
+ * The random numbers used by a model, with a separate RandomStream for each part of the game that uses them. All of the
+ * streams come from a single seed, and are saved along with the model, so that a game (or simulation) can be replayed
+ * exactly from its seed. As each part has its own stream, one part using more or fewer random numbers doesn't change the
+ * numbers any other part gets.
+ * @author David O'Sullivan
+ *
+ */
+public final class RandomStreams implements Serializable {
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The parts of the game that use random numbers. New parts should only be added to the end, so that the streams of
+	 * the existing parts stay the same for a given seed.
+	 */
+	public enum Stream {
+		/**
+		 * Looking for wild creatures
+		 */
+		SPAWN,
+		/**
+		 * Events with random results (e.g. random gold)
+		 */
+		EVENTS,
+		/**
+		 * Choosing what a creature evolves into
+		 */
+		EVOLUTION,
+		/**
+		 * Generating the attributes of creatures (e.g. gpm) that aren't set in the input files
+		 */
+		ATTRIBUTE_GEN
+	}
+	private final long seed;
+	private final Map<Stream, RandomStream> streams = new EnumMap<Stream, RandomStream>(Stream.class);
+	/**
+	 * Creates a new RandomStreams, splitting a RandomStream for each part of the game off of the provided seed
+	 * @param seed the seed
+	 */
+	public RandomStreams(final long seed) {
+		this.seed = seed;
+		final RandomStream root = new RandomStream(seed);
+		for (final Stream stream : Stream.values())
+			streams.put(stream, root.split());
+	}
+	/**
+	 * Returns the RandomStream for the provided part of the game. Parts added after these RandomStreams were saved get their
+	 * stream from the seed the first time they ask for it.
+	 * @param stream the part of the game
+	 * @return the RandomStream for that part of the game
+	 */
+	public RandomStream get(final Stream stream) {
+		return streams.computeIfAbsent(stream, this::getInitial);
+	}
+	/**
+	 * Returns a new RandomStream in the state the stream for the provided part of the game started in, for parts that need
+	 * the same numbers every time the model is loaded rather than carrying on from where they left off
+	 * @param stream the part of the game
+	 * @return a new RandomStream in the state that part of the game's stream started in
+	 */
+	public RandomStream getInitial(final Stream stream) {
+		final RandomStream root = new RandomStream(seed);
+		for (int i = 0; i < stream.ordinal(); i++)
+			root.split();
+		return root.split();
+	}
+	/**
+	 * Returns a new RandomStream for the provided key (e.g. the name of a creature) within the provided part of the game.
+	 * The numbers depend only on the seed and the key, not on how the part's stream has been used or which other keys have
+	 * been asked for.
+	 * @param stream the part of the game
+	 * @param key the key
+	 * @return a new RandomStream for the key
+	 */
+	public RandomStream getKeyed(final Stream stream, final String key) {
+		return new RandomStream(getInitial(stream).nextLong() ^ key.hashCode()).split();
+	}
+	/**
+	 * Returns the seed these RandomStreams were created from
+	 * @return the seed these RandomStreams were created from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+}
@@ -1,5 +1,7 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 /**
@@ -14,7 +16,7 @@ public class SessionTimeManager implements Serializable{
 	/**
 	 * Total game time, both in game and when game is closed
 	 */
-	private long totalTimeSinceStart = 0;
+	private volatile long totalTimeSinceStart = 0;
 	/**
 	 * Total amount of time spent in pause throughout all sessions
 	 */
@@ -22,11 +24,11 @@ public class SessionTimeManager implements Serializable{
 	/**
 	 * Sum of all ingame ("online) game times. This only goes up to the time of the last save
 	 */
-	private long totalInGameTime = 0;
+	private volatile long totalInGameTime = 0;
 	/**
 	 * Total time in current game session
 	 */
-	private long sessionGameTime = 0;
+	private volatile long sessionGameTime = 0;
 	/**
 	 * The time in millseconds that it was when the game was paused
 	 */
@@ -38,7 +40,7 @@ public class SessionTimeManager implements Serializable{
 	/**
 	 * The start of the current game session
 	 */
-	private long startOfSession = System.currentTimeMillis();
+	private long startOfSession;
 	/**
 	 * How much time was spent in pause this session only
 	 */
@@ -46,22 +48,35 @@ public class SessionTimeManager implements Serializable{
 	/**
 	 * The original time when this game was started
 	 */
-	private final long startOfGame = System.currentTimeMillis();
+	private final long startOfGame;
 	/**
 	 * Create a new Time Manager with 0 already elapsed time. Should be called at the beginning of a new game. 
 	 */
 	private long totalInGameTimeOnStart = 0;
 	/**
-	 * Creates a new SessionTimeManager, starting a new session
+	 * The clock used to measure the passage of time
+	 */
+	private GameClock clock;
+	/**
+	 * Creates a new SessionTimeManager that uses the system clock, starting a new session
 	 */
 	public SessionTimeManager() {
+		this(new SystemGameClock());
+	}
+	/**
+	 * Creates a new SessionTimeManager that uses the provided clock, starting a new session
+	 * @param clock the clock to measure time with
+	 */
+	public SessionTimeManager(final GameClock clock) {
+		this.clock = clock;
+		startOfGame = clock.currentTimeMillis();
 		signifyNewSession();
 	}
 	/**
 	 * Must be called whenever a new session is started to reset all session dependent values
 	 */
 	public void signifyNewSession() {
-		startOfSession = System.currentTimeMillis();
+		startOfSession = clock.currentTimeMillis();
 		sessionPauseDeficit = 0;
 		paused = false;
 		totalInGameTimeOnStart = totalInGameTime;
@@ -90,8 +105,8 @@ public class SessionTimeManager implements Serializable{
 	 */
 	public void updateGameTime() {
 		if (!paused) {
-			totalTimeSinceStart = (System.currentTimeMillis() - startOfGame)-totalPauseDeficit;
-			sessionGameTime = (System.currentTimeMillis() - startOfSession)-sessionPauseDeficit;
+			totalTimeSinceStart = (clock.currentTimeMillis() - startOfGame)-totalPauseDeficit;
+			sessionGameTime = (clock.currentTimeMillis() - startOfSession)-sessionPauseDeficit;
 			totalInGameTime = sessionGameTime + totalInGameTimeOnStart;
 		}
 	}
@@ -102,7 +117,14 @@ public class SessionTimeManager implements Serializable{
 		if (paused)
 			return;
 		paused = true;
-		timeOnPause = System.currentTimeMillis();
+		timeOnPause = clock.currentTimeMillis();
+	}
+	/**
+	 * Returns the clock used by this SessionTimeManager
+	 * @return the clock used by this SessionTimeManager
+	 */
+	public GameClock getClock() {
+		return clock;
 	}
 	/**
 	 * Resumes counting time
@@ -111,7 +133,12 @@ public class SessionTimeManager implements Serializable{
 		if (!paused)
 			return;
 		paused = false;
-		totalPauseDeficit += System.currentTimeMillis()-timeOnPause;
-		sessionPauseDeficit+=System.currentTimeMillis()-timeOnPause;
+		totalPauseDeficit += clock.currentTimeMillis()-timeOnPause;
+		sessionPauseDeficit+=clock.currentTimeMillis()-timeOnPause;
+	}
+	private void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
+		ois.defaultReadObject();
+		if (clock == null) //saves from before clocks were pluggable
+			clock = new SystemGameClock();
 	}
 }
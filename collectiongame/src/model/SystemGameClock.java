@@ -0,0 +1,19 @@
+package model;
+
+/**
+ * A GameClock that reads the system wall clock
+ * @author David O'Sullivan
+ */
+public class SystemGameClock implements GameClock {
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	/** 
+	 * @see model.GameClock#currentTimeMillis()
+	 */
+	@Override
+	public long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,46 @@
+package model;
+
+/**
+ * A GameClock whose time only moves when it is explicitly advanced. Used to run the model 
+ * deterministically and faster than real time.
+ * @author David O'Sullivan
+ */
+public class VirtualGameClock implements GameClock {
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The current virtual time in milliseconds
+	 */
+	private long time;
+	/**
+	 * Creates a new VirtualGameClock starting at time 0
+	 */
+	public VirtualGameClock() {
+		this(0);
+	}
+	/**
+	 * Creates a new VirtualGameClock starting at the provided time
+	 * @param startTime the starting time in milliseconds
+	 */
+	public VirtualGameClock(final long startTime) {
+		this.time = startTime;
+	}
+	/** 
+	 * @see model.GameClock#currentTimeMillis()
+	 */
+	@Override
+	public synchronized long currentTimeMillis() {
+		return time;
+	}
+	/**
+	 * Moves the clock forward by the provided amount
+	 * @param millis the amount of time in milliseconds to move forward
+	 */
+	public synchronized void advance(final long millis) {
+		if (millis < 0)
+			throw new IllegalArgumentException("Can't move clock backwards");
+		time += millis;
+	}
+}
@@ -1,5 +1,7 @@
 package model;
 
+import java.util.List;
+
 /**
  * Generates new random Creatures. The rarity of the creatures generated is based on multiple factors including the 
  * popularity of the ModelInterface. 
@@ -14,6 +16,15 @@ public interface WildCreatureGeneratorInterface {
 	 */
 	String lookForCreature(boolean automaticSpawn);
 
+	/**
+	 * Looks for n creatures at once, with the same chances as calling lookForCreature n times. Creatures found earlier 
+	 * in the batch count as already present when finding the later ones.
+	 * @param n the number of times to look for a creature
+	 * @param automaticSpawn if true will find a creature every time regardless of percent chance
+	 * @return the names of the creatures found, in the order they were found (may be fewer than n)
+	 */
+	List<String> lookForCreatures(int n, boolean automaticSpawn);
+
 	/**
 	 * @return the percent chance that the randomNum generated by lookForCreature will be modified 
 	 *by a value. This value increases as popularity increases. 
@@ -42,5 +53,20 @@ public interface WildCreatureGeneratorInterface {
 	 *  
 	 */
 	double getLookForCreaturesPeriod();
+	/**
+	 * Should be called when the Thing templates change, so that the chance of finding each creature is worked out again
+	 */
+	void onTemplatesChanged();
+	/**
+	 * Should be called when a creature with the provided name is placed on the ModelInterface or found, and no other 
+	 * creature with that name was present
+	 * @param name the name of the creature
+	 */
+	void notifyCreatureNamePresent(String name);
+	/**
+	 * Should be called when the last creature with the provided name is removed from the ModelInterface or the found creatures
+	 * @param name the name of the creature
+	 */
+	void notifyCreatureNameGone(String name);
 
 }
\ No newline at end of file
@@ -2,32 +2,51 @@ package model.defaultimplementation;
 import static gameutils.Constants.DEBUG;
 import static gameutils.Constants.RAPID_SPAWN;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import javax.swing.SwingUtilities;
 
+import attributes.AttributeName;
 import effects.EventManager;
 import effects.Eventful;
 import effects.GlobalModifierOption;
 import gameutils.GameUtils;
+import gameutils.RandomStream;
 import gui.guiutils.GuiUtils;
+import loaders.TemplateChanges;
 import loaders.ThingFactory;
+import model.BoardSnapshot;
+import model.GameClock;
 import model.ModelInterface;
+import model.RandomStreams;
+import model.RandomStreams.Stream;
 import model.SessionTimeManager;
 import model.ShopWindow;
+import model.SystemGameClock;
 import model.ThingObserver;
 import model.WildCreatureGeneratorInterface;
 import modifiers.Modifier;
 import modifiers.ModifierManager;
+import modifiers.ModifierTarget;
 import thingFramework.Creature;
 import thingFramework.Item;
 import thingFramework.Thing;
@@ -55,27 +74,42 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * The maximum number of creatures that can be in the dequeue at a time
 	 */
 	private static final int MAX_CREATURES_IN_QUEUE = 100;
+	/**
+	 * Updates gold without taking the board lock
+	 */
+	private static final AtomicIntegerFieldUpdater<Board> GOLD_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Board.class, "gold");
+	/**
+	 * Updates popularity without taking the board lock
+	 */
+	private static final AtomicIntegerFieldUpdater<Board> POPULARITY_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Board.class, "popularity");
 
 	/*
 	 * Instance variables:
 	 * 
 	 */
 	/**
-	 * This is the currently Grabbed creature, it may be placed on the board and removed from foundCreatures or it may be put back
+	 * This is the currently Grabbed creature, it may be placed on the board and removed from waitingCreatures or it may be put back
 	 */
 	private Creature grabbedCreature = null;
 
 
 	/**
-	 * The queue of found wild creatures (creatures generated from a lookForCreature() call)
+	 * The queue of the names of found wild creatures (creatures found from a lookForCreature() call). A Creature is only
+	 * made for a name when it is grabbed, as the player can't see a wild creature until then. Every Creature with the
+	 * same name is made from the same template, so it doesn't matter when it is made.
 	 */
-	private final Deque<Creature> foundCreatures = new LinkedList<Creature>();
+	private Deque<String> waitingCreatures = new ArrayDeque<String>();
 	/**
-	 * The amount of money that the player currently posseses
+	 * The queue of found wild creatures in saves made before the queue held names. Moved into waitingCreatures when
+	 * loaded, and null otherwise.
+	 */
+	private Deque<Creature> foundCreatures;
+	/**
+	 * The amount of money that the player currently posseses. Only modified through GOLD_UPDATER.
 	 */
 	private volatile int gold = 0;
 	/**
-	 * The amount of popularity the player posseses
+	 * The amount of popularity the player posseses. Only modified through POPULARITY_UPDATER.
 	 */
 	private volatile int popularity = 0;
 	/**
@@ -132,13 +166,69 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * The Shop Window for this board
 	 */
 	private final ShopWindow shopWindow;
+	/**
+	 * The state of the board as of the end of the last update, to be read by the view
+	 */
+	private transient volatile BoardSnapshot snapshot;
+	/**
+	 * Wild creatures that were let go, kept to be reused for future wild creatures
+	 */
+	private transient CreaturePool creaturePool;
+	/**
+	 * True while addThings or removeThings is placing or removing a batch, so that the creature and item modifiers are 
+	 * applied once for the whole batch afterwards rather than as each Thing is notified about
+	 */
+	private transient boolean batchingModifiers;
+	/**
+	 * The Things on the board indexed by the attribute values that targeted modifiers look for. Only access through getAttributeIndex.
+	 */
+	private transient ThingAttributeIndex attributeIndex;
+	/**
+	 * The description version (see Thing#getDescriptionVersion()) of each Thing as of when its description in the last
+	 * published snapshot was rendered
+	 */
+	private transient Map<Thing, Long> snapshotDescriptionVersions;
+	/**
+	 * The version of the last published snapshot
+	 */
+	private transient long snapshotVersion = 0;
+	/**
+	 * Incremented (while holding the board's lock) whenever the number of creatures on the board or waiting changes, so that 
+	 * values calculated from those numbers can be reused until it does without taking the lock
+	 */
+	private transient volatile int creatureCountVersion = 0;
+	/**
+	 * Levels up the creatures on the board. Only access through getCreatureLeveler, as boards saved before creatures
+	 * leveled up won't have one.
+	 */
+	private CreatureLeveler creatureLeveler;
+	/**
+	 * The random numbers used by the board. Boards saved before these were kept are given new ones with a random seed when loaded.
+	 */
+	private RandomStreams randomStreams;
 	/**
 	 * Creates a new board
 	 */
 	public Board() {
+		this(new SystemGameClock());
+	}
+	/**
+	 * Creates a new board that measures game time with the provided clock
+	 * @param clock the clock used to measure game time
+	 */
+	public Board(final GameClock clock) {
+		this(clock, ThreadLocalRandom.current().nextLong());
+	}
+	/**
+	 * Creates a new board that measures game time with the provided clock, and whose random numbers all come from the provided seed
+	 * @param clock the clock used to measure game time
+	 * @param seed the seed of the board's random numbers
+	 */
+	public Board(final GameClock clock, final long seed) {
+		randomStreams = new RandomStreams(seed);
 		creatureGenerator = new BoardWildCreatureGenerator(this);
 		shopWindow = new ShopWindow(this);
-		stm = new SessionTimeManager();
+		stm = new SessionTimeManager(clock);
 		modifierManager = new ModifierManager(this);
 		events = createNewEventManager();
 	}
@@ -148,7 +238,27 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * @param popularity the starting popularity
 	 */
 	public Board(final int gold, final int popularity) {
-		this();
+		this(gold, popularity, new SystemGameClock());
+	}
+	/**
+	 * Creates a new board starting with the provided gold/popularity that measures game time with the provided clock
+	 * @param gold the starting gold
+	 * @param popularity the starting popularity
+	 * @param clock the clock used to measure game time
+	 */
+	public Board(final int gold, final int popularity, final GameClock clock) {
+		this(gold, popularity, clock, ThreadLocalRandom.current().nextLong());
+	}
+	/**
+	 * Creates a new board starting with the provided gold/popularity that measures game time with the provided clock, and
+	 * whose random numbers all come from the provided seed
+	 * @param gold the starting gold
+	 * @param popularity the starting popularity
+	 * @param clock the clock used to measure game time
+	 * @param seed the seed of the board's random numbers
+	 */
+	public Board(final int gold, final int popularity, final GameClock clock, final long seed) {
+		this(clock, seed);
 		this.setGold(gold);
 		this.setPopularity(popularity);
 	}
@@ -163,6 +273,61 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 		stm.updateGameTime();
 		executeEvents();
 		modifierManager.update();
+		levelCreatures();
+		publishSnapshot();
+	}
+	/**
+	 * Publishes a new snapshot of the board if anything the view displays has changed since the last one. Only the
+	 * descriptions of Things whose description version changed are rendered again, the rest are copied from the last snapshot.
+	 */
+	private synchronized void publishSnapshot() {
+		final int gold = getGold();
+		final int popularity = getPopularity();
+		final int waiting = numCreaturesWaiting();
+		boolean changed = snapshot == null || snapshot.getGold() != gold || snapshot.getPopularity() != popularity
+				|| snapshot.getNumCreaturesWaiting() != waiting;
+		if (!changed && !descriptionsChanged())
+			return;
+		changed = changed || thingsOnBoard.size() != snapshotDescriptionVersions.size();
+		final Map<Thing, String> descriptions = new IdentityHashMap<Thing, String>();
+		final Map<Thing, Long> versions = new IdentityHashMap<Thing, Long>();
+		for (final Thing thing : thingsOnBoard) {
+			final long version = thing.getDescriptionVersion();
+			final Long renderedVersion = snapshot == null ? null : snapshotDescriptionVersions.get(thing);
+			versions.put(thing, version);
+			if (renderedVersion != null && renderedVersion == version) {
+				descriptions.put(thing, snapshot.getDescription(thing));
+			}
+			else {
+				final String description = thing.toString();
+				//the version changes whenever the description may have changed, so check that it actually did
+				changed = changed || !description.equals(snapshot.getDescription(thing));
+				descriptions.put(thing, description);
+			}
+		}
+		snapshotDescriptionVersions = versions;
+		if (changed)
+			snapshot = new BoardSnapshot(++snapshotVersion, gold, popularity, waiting, descriptions);
+	}
+	/**
+	 * Returns true if a Thing was placed or removed, or the description of a Thing may have changed, since the last snapshot
+	 */
+	private boolean descriptionsChanged() {
+		if (thingsOnBoard.size() != snapshotDescriptionVersions.size())
+			return true;
+		for (final Thing thing : thingsOnBoard) {
+			final Long renderedVersion = snapshotDescriptionVersions.get(thing);
+			if (renderedVersion == null || renderedVersion != thing.getDescriptionVersion())
+				return true;
+		}
+		return false;
+	}
+	/** 
+	 * @see model.ModelInterface#getSnapshot()
+	 */
+	@Override
+	public BoardSnapshot getSnapshot() {
+		return snapshot;
 	}
 	/**
 	 * Executes all the events in the events Set, goes through each of its entries and executes the list of events that the 
@@ -171,6 +336,23 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	private synchronized void executeEvents() {
 		events.runEvents();
 	}
+	/**
+	 * Gives every creature on the board the XP it earned since the last update
+	 */
+	private synchronized void levelCreatures() {
+		getCreatureLeveler().update(stm.getTotalInGameTime());
+	}
+	/**
+	 * Returns the CreatureLeveler, creating it and adding every creature on the board to it if there isn't one yet
+	 * @return the CreatureLeveler for this board
+	 */
+	private synchronized CreatureLeveler getCreatureLeveler() {
+		if (creatureLeveler == null) {
+			creatureLeveler = new CreatureLeveler();
+			creaturesOnBoard.forEach(creatureLeveler::add);
+		}
+		return creatureLeveler;
+	}
 	
 	/** 
 	 * @see model.ModelInterface#getLookForCreaturesPeriod()
@@ -188,46 +370,48 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	}
 
 	/**
-	 * @param Using thing loader creates a new instance of a creature with the given name.
-	 * Adds the provided creature to the foundCreatures queue and updates the set of creature names in addToUniqueCreaturesLookup
+	 * Adds the provided creature name to the waitingCreatures queue and updates the set of creature names in addToUniqueCreaturesLookup
+	 * @param name the name of the creature found
 	 */
 	private void addToFoundCreatures(final String name) {
-		if (foundCreatures.size() >= MAX_CREATURES_IN_QUEUE)
+		if (waitingCreatures.size() >= MAX_CREATURES_IN_QUEUE)
 			return;
-		final Creature creature = ThingFactory.getInstance().generateNewCreature(name);
-		foundCreatures.addLast(creature);
-		addToUniqueCreaturesLookup(creature);
+		waitingCreatures.addLast(name);
+		creatureCountVersion++;
+		addToUniqueCreaturesLookup(name);
 		
 	}
 	/**
 	 * Adds the provided creature to the unique creature lookup. Should be called when a creature is placed on the board
-	 * or put into the foundCreatures queue. 
-	 * @param creature the creature to add 
+	 * or put into the waitingCreatures queue. 
+	 * @param name the name of the creature to add 
 	 */
-	private void addToUniqueCreaturesLookup(final Creature creature) {
-		uniqueCreatureLookup.merge(creature.getName(), 1, (old, v) -> old+1);
+	private void addToUniqueCreaturesLookup(final String name) {
+		if (uniqueCreatureLookup.merge(name, 1, (old, v) -> old+1) == 1)
+			creatureGenerator.notifyCreatureNamePresent(name);
 	}
 	/**
-	 * Should be called when a  creature is removed from the foundCreature queue or the board.
-	 * @param creature the creature that was removed
+	 * Should be called when a  creature is removed from the waitingCreatures queue or the board.
+	 * @param name the name of the creature that was removed
 	 */
-	private void removeFromUniqueCreaturesLookup(final Creature creature) {
-		uniqueCreatureLookup.compute(creature.getName(), (k, v) -> (v-1 == 0) ? null : v-1);
+	private void removeFromUniqueCreaturesLookup(final String name) {
+		if (uniqueCreatureLookup.compute(name, (k, v) -> (v-1 == 0) ? null : v-1) == null)
+			creatureGenerator.notifyCreatureNameGone(name);
 	}
 	/**
-	 * Returns true if the creature with the provided name is not currently in the foundCreature queue nor on the board
+	 * Returns true if the creature with the provided name is not currently in the waitingCreatures queue nor on the board
 	 * @param name the name of the creature
-	 * @return true if the creature with the provided name is not currently in the foundCreature queue nor on the board
+	 * @return true if the creature with the provided name is not currently in the waitingCreatures queue nor on the board
 	 */
 	boolean isUniqueCreature(final String name) { 
 		return !uniqueCreatureLookup.containsKey(name);
 	}
 
 	/**
-	 * Looks for a creature from the creatureGenerator, and if one is found, adds it the foundCreatures queue
+	 * Looks for a creature from the creatureGenerator, and if one is found, adds it the waitingCreatures queue
 	 * @param automaticSpawn whether or not the creatureGenerator should automatically try to spawn a creature
 	 */
-	private void lookForAndAddCreature(final boolean automaticSpawn) {
+	private synchronized void lookForAndAddCreature(final boolean automaticSpawn) {
 		final String newCreature = creatureGenerator.lookForCreature(automaticSpawn); 
 		if (newCreature != null)
 			addToFoundCreatures(newCreature);
@@ -243,6 +427,22 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	}
 	
 
+	/** 
+	 * @see model.ModelInterface#lookForCreatures(int)
+	 */
+	@Override
+	public synchronized int lookForCreatures(final int n) {
+		final int room = MAX_CREATURES_IN_QUEUE - waitingCreatures.size();
+		if (n <= 0 || room <= 0)
+			return 0;
+		final List<String> names = creatureGenerator.lookForCreatures(Math.min(n, room), RAPID_SPAWN ? true : false);
+		for (final String name : names) {
+			waitingCreatures.addLast(name);
+			addToUniqueCreaturesLookup(name);
+		}
+		creatureCountVersion++;
+		return names.size();
+	}
 	/** 
 	 * @see model.ModelInterface#lookForCreatureGuranteedFind()
 	 */
@@ -259,6 +459,28 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 		modifierManager.getModifiersOfOption(GlobalModifierOption.NO_PREFERENCE).forEach(mod -> thing.addModifierIfShould(mod));
 		thing.onPlace(this);
 	}
+	/** 
+	 * @see model.ModelInterface#addThings(java.util.Collection)
+	 */
+	@Override
+	public synchronized void addThings(final Collection<? extends Thing> things) {
+		for (final Thing thing : things)
+			addElementToThingMap(thing);
+		addModifiers(GlobalModifierOption.NO_PREFERENCE, things);
+		final List<Thing> creatures = new ArrayList<Thing>();
+		final List<Thing> items = new ArrayList<Thing>();
+		batchingModifiers = true;
+		try {
+			for (final Thing thing : things) {
+				thing.onPlace(this);
+				(thing instanceof Creature ? creatures : items).add(thing);
+			}
+		} finally {
+			batchingModifiers = false;
+		}
+		addModifiers(GlobalModifierOption.ONLY_CREATURES, creatures);
+		addModifiers(GlobalModifierOption.ONLY_ITEMS, items);
+	}
 	/** 
 	 * @see model.ModelInterface#removeThing(thingFramework.Thing)
 	 */
@@ -272,6 +494,60 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 		thing.onRemove(this);
 
 	}
+	/** 
+	 * @see model.ModelInterface#removeThings(java.util.Collection)
+	 */
+	@Override
+	public synchronized void removeThings(final Collection<? extends Thing> things) {
+		for (final Thing thing : things) {
+			if (thing==null) {
+				throw new RuntimeException("Attempted to Remove null");
+			}
+			removeElementFromThingMap(thing);
+		}
+		removeModifiers(GlobalModifierOption.NO_PREFERENCE, things);
+		final List<Thing> creatures = new ArrayList<Thing>();
+		final List<Thing> items = new ArrayList<Thing>();
+		batchingModifiers = true;
+		try {
+			for (final Thing thing : things) {
+				thing.onRemove(this);
+				(thing instanceof Creature ? creatures : items).add(thing);
+			}
+		} finally {
+			batchingModifiers = false;
+		}
+		removeModifiers(GlobalModifierOption.ONLY_CREATURES, creatures);
+		removeModifiers(GlobalModifierOption.ONLY_ITEMS, items);
+	}
+	/**
+	 * Adds each global modifier of the provided option to every one of the provided Things it should modify, looking the 
+	 * modifiers up once for the whole batch
+	 * @param option the option of the modifiers to add
+	 * @param things the Things to add them to
+	 */
+	private void addModifiers(final GlobalModifierOption option, final Collection<? extends Thing> things) {
+		if (things.isEmpty())
+			return;
+		for (final Modifier mod : modifierManager.getModifiersOfOption(option)) {
+			for (final Thing thing : things)
+				thing.addModifierIfShould(mod);
+		}
+	}
+	/**
+	 * Removes each global modifier of the provided option from every one of the provided Things it is present on, looking 
+	 * the modifiers up once for the whole batch
+	 * @param option the option of the modifiers to remove
+	 * @param things the Things to remove them from
+	 */
+	private void removeModifiers(final GlobalModifierOption option, final Collection<? extends Thing> things) {
+		if (things.isEmpty())
+			return;
+		for (final Modifier mod : modifierManager.getModifiersOfOption(option)) {
+			for (final Thing thing : things)
+				thing.removeModifierIfPresent(mod);
+		}
+	}
 	/** 
 	 * @see model.ModelInterface#onStartUp()
 	 */
@@ -318,21 +594,21 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * @see model.ModelInterface#getTotalTimeSinceStart()
 	 */
 	@Override
-	public synchronized long getTotalTimeSinceStart() {
+	public long getTotalTimeSinceStart() {
 		return stm.getTotalTimeSinceStart();
 	}
 	/** 
 	 * @see model.ModelInterface#getSessionGameTime()
 	 */
 	@Override
-	public synchronized long getSessionGameTime() {
+	public long getSessionGameTime() {
 		return stm.getSessionGameTime();
 	}
 	/** 
 	 * @see model.ModelInterface#getTotalInGameTime()
 	 */
 	@Override
-	public synchronized long getTotalInGameTime() {
+	public long getTotalInGameTime() {
 		return stm.getTotalInGameTime();
 	}
 
@@ -340,56 +616,56 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * @see model.ModelInterface#getGold()
 	 */
 	@Override
-	public synchronized int getGold() {
+	public int getGold() {
 		return gold;
 	}
 	/** 
 	 * @see model.ModelInterface#setGold(int)
 	 */
 	@Override
-	public synchronized void setGold(final int gold) {
-		this.gold = Math.max(MINGOLD, gold);
+	public void setGold(final int gold) {
+		GOLD_UPDATER.set(this, Math.max(MINGOLD, gold));
 	}
 	/** 
 	 * @see model.ModelInterface#getPopularity()
 	 */
 	@Override
-	public synchronized int getPopularity() {
+	public int getPopularity() {
 		return popularity;
 	}
 	/** 
 	 * @see model.ModelInterface#setPopularity(int)
 	 */
 	@Override
-	public synchronized void setPopularity(final int popularity) {
-		this.popularity = Math.max(MINPOP, popularity);
+	public void setPopularity(final int popularity) {
+		POPULARITY_UPDATER.set(this, Math.max(MINPOP, popularity));
 	}
 	/** 
 	 * @see model.ModelInterface#addGold(int)
 	 */
 	@Override
-	public synchronized void addGold(final int gold) {
-		setGold(getGold()+gold);
+	public void addGold(final int gold) {
+		GOLD_UPDATER.updateAndGet(this, old -> Math.max(MINGOLD, old + gold));
 	}
 	/** 
 	 * @see model.ModelInterface#subtractGold(int)
 	 */
 	@Override
-	public synchronized void subtractGold(final int gold) {
+	public void subtractGold(final int gold) {
 		addGold(-gold);
 	}
 	/** 
 	 * @see model.ModelInterface#addPopularity(int)
 	 */
 	@Override
-	public synchronized void addPopularity(final int popularity) {
-		setPopularity(getPopularity()+popularity);
+	public void addPopularity(final int popularity) {
+		POPULARITY_UPDATER.updateAndGet(this, old -> Math.max(MINPOP, old + popularity));
 	}
 	/** 
 	 * @see model.ModelInterface#subtractPopularity(int)
 	 */
 	@Override
-	public synchronized void subtractPopularity(final int popularity) {
+	public void subtractPopularity(final int popularity) {
 		addPopularity(-popularity);
 	}
 	/** 
@@ -398,9 +674,12 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	@Override
 	public synchronized void notifyCreatureAdded(final Creature creature) {
 		numCreatures++;
-		addToUniqueCreaturesLookup(creature);
+		creatureCountVersion++;
+		addToUniqueCreaturesLookup(creature.getName());
 		creaturesOnBoard.add(creature);
-		modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_CREATURES).forEach(mod -> creature.addModifierIfShould(mod));
+		getCreatureLeveler().add(creature);
+		if (!batchingModifiers)
+			modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_CREATURES).forEach(mod -> creature.addModifierIfShould(mod));
 
 	}
 	/** 
@@ -409,9 +688,12 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	@Override
 	public synchronized void notifyCreatureRemoved(final Creature creature) {
 		numCreatures--;
-		removeFromUniqueCreaturesLookup(creature);
+		creatureCountVersion++;
+		removeFromUniqueCreaturesLookup(creature.getName());
 		creaturesOnBoard.remove(creature);
-		modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_CREATURES).forEach(mod -> creature.removeModifierIfPresent(mod));
+		getCreatureLeveler().remove(creature);
+		if (!batchingModifiers)
+			modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_CREATURES).forEach(mod -> creature.removeModifierIfPresent(mod));
 	}
 	/** 
 	 * @see model.ModelInterface#notifyItemAdded(thingFramework.Item)
@@ -419,7 +701,8 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	@Override
 	public synchronized void notifyItemAdded(final Item i) {
 		itemsOnBoard.add(i);
-		modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_ITEMS).forEach(mod -> i.addModifierIfShould(mod));
+		if (!batchingModifiers)
+			modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_ITEMS).forEach(mod -> i.addModifierIfShould(mod));
 	}
 	/** 
 	 * @see model.ModelInterface#notifyItemRemoved(thingFramework.Item)
@@ -427,7 +710,8 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	@Override
 	public synchronized void notifyItemRemoved(final Item i) {
 		itemsOnBoard.remove(i);
-		modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_ITEMS).forEach(mod -> i.removeModifierIfPresent(mod));
+		if (!batchingModifiers)
+			modifierManager.getModifiersOfOption(GlobalModifierOption.ONLY_ITEMS).forEach(mod -> i.removeModifierIfPresent(mod));
 	}
 	/**
 	 * Adds the element to the map from thing to # present, updating accordingly, and adding events if necessary. 
@@ -437,6 +721,7 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 		if (DEBUG)
 			System.out.println("Adding: " + thing.toString() + "\n");
 		thingsOnBoard.add(thing);
+		getAttributeIndex().add(thing);
 		addAssociatedEvents(thing);
 	}
 	/**
@@ -446,6 +731,7 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 */
 	private void removeElementFromThingMap(final Thing thing) {
 		thingsOnBoard.remove(thing);
+		getAttributeIndex().remove(thing);
 		removeAssociatedEvents(thing);  //execute onRemove and permanently remove if this is the last instance
 	}
 	/**
@@ -468,7 +754,7 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 */
 	@Override
 	public boolean wildCreaturePresent() {
-		return !foundCreatures.isEmpty();
+		return !waitingCreatures.isEmpty();
 	}
 	/** 
 	 * @see model.ModelInterface#getCreature(java.lang.String)
@@ -476,7 +762,7 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	@Override
 	public Creature getCreature(final String name) {
 		if (DEBUG)
-			return ThingFactory.getInstance().generateNewCreature(name);
+			return ThingFactory.getInstance().generateNewCreature(name, randomStreams);
 		else
 			throw new RuntimeException("Method should not be called when not debugging");
 	}
@@ -495,37 +781,59 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * @see model.ModelInterface#grabWildCreature()
 	 */
 	@Override
-	public Creature grabWildCreature() {
+	public synchronized Creature grabWildCreature() {
 		if (grabbedCreature != null)
 			throw new RuntimeException("Previous Grab Unconfirmed");
-		final Creature grabbed = foundCreatures.poll();
+		final String name = waitingCreatures.poll();
+		final Creature grabbed = name == null ? null : getCreaturePool().obtain(name);
 		grabbedCreature = grabbed;
+		creatureCountVersion++;
 		return grabbed;
 	}
 	/** 
 	 * @see model.ModelInterface#undoGrab()
 	 */
 	@Override
-	public void undoGrab() {
+	public synchronized void undoGrab() {
 		if (grabbedCreature == null) {
 			throw new RuntimeException("No Creature Grabbed");
 		}
-		foundCreatures.addFirst(grabbedCreature);
+		waitingCreatures.addFirst(grabbedCreature.getName());
+		getCreaturePool().release(grabbedCreature);
 		grabbedCreature = null;
+		creatureCountVersion++;
 	}
 	/** 
 	 * @see model.ModelInterface#confirmGrab()
 	 */
 	@Override
-	public Creature confirmGrab() {
+	public synchronized Creature confirmGrab() {
 		if (grabbedCreature == null) {
 			throw new RuntimeException("No Creature Grabbed");
 		}
 		final Creature creature = grabbedCreature;
 		grabbedCreature = null;
-		removeFromUniqueCreaturesLookup(creature);
+		removeFromUniqueCreaturesLookup(creature.getName());
+		return creature;
+	}
+	/** 
+	 * @see model.ModelInterface#releaseGrab()
+	 */
+	@Override
+	public Creature releaseGrab() {
+		final Creature creature = confirmGrab();
+		getCreaturePool().release(creature);
 		return creature;
 	}
+	/**
+	 * Returns the CreaturePool used for wild creatures, creating it if it doesn't exist yet (e.g. after being loaded)
+	 * @return the CreaturePool used for wild creatures
+	 */
+	private synchronized CreaturePool getCreaturePool() {
+		if (creaturePool == null)
+			creaturePool = new CreaturePool(randomStreams);
+		return creaturePool;
+	}
 	/** 
 	 * @see model.ModelInterface#getGrabbed()
 	 */
@@ -549,7 +857,7 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 */
 	@Override
 	public int numCreaturesWaiting() {
-		return foundCreatures.size();
+		return waitingCreatures.size();
 	}
 
 
@@ -565,7 +873,14 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 */
 	@Override
 	public synchronized void applyGlobalModifier(final Modifier mod, final GlobalModifierOption option) {
-		switch(option) {
+		final ModifierTarget target = mod.getTarget();
+		if (target != null && target.isIndexable()) {
+			for (final Thing t : getAttributeIndex().getMatching(target)) {
+				if (isOfOption(t, option))
+					t.addModifierIfShould(mod);
+			}
+		}
+		else switch(option) {
 		case NO_PREFERENCE:
 			thingsOnBoard.forEach(t -> t.addModifierIfShould(mod));
 			break;
@@ -584,9 +899,40 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 */
 	@Override
 	public synchronized void removeGlobalModifier(final Modifier mod) {
-		thingsOnBoard.forEach(t -> t.removeModifierIfPresent(mod));
+		final ModifierTarget target = mod.getTarget();
+		final Collection<Thing> mayHaveModifier = target != null && target.isIndexable() ? getAttributeIndex().getMatching(target) : thingsOnBoard;
+		mayHaveModifier.forEach(t -> t.removeModifierIfPresent(mod));
 		modifierManager.notifyGlobalModifierRemoved(mod);
 	}
+	/** 
+	 * @see model.ModelInterface#applyTemplateChanges(loaders.TemplateChanges)
+	 */
+	@Override
+	public synchronized void applyTemplateChanges(final TemplateChanges changes) {
+		int numChanged = 0;
+		for (final Thing t : thingsOnBoard) {
+			if (changes.applyTo(t))
+				numChanged++;
+		}
+		if (changes.templatesAddedOrRemoved()) {
+			for (final Iterator<String> it = waitingCreatures.iterator(); it.hasNext();) {
+				final String name = it.next();
+				if (!ThingFactory.getInstance().isCreatableThing(name)) {
+					it.remove();
+					removeFromUniqueCreaturesLookup(name);
+					creatureCountVersion++;
+				}
+			}
+		}
+		if (grabbedCreature != null)
+			changes.applyTo(grabbedCreature);
+		getAttributeIndex().clear();
+		getCreaturePool().clear();
+		creatureGenerator.onTemplatesChanged();
+		getCreatureLeveler().refreshLevelsOfEvolution();
+		if (DEBUG)
+			System.out.println("Applied template changes (" + changes + ") to " + numChanged + " Things on the board");
+	}
 	/** 
 	 * @see model.ModelInterface#addToRemoveRequest(thingFramework.Thing)
 	 */
@@ -608,6 +954,42 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	public synchronized Thing getNextRemoveRequest() {
 		return removeRequests.poll();
 	}
+	/** 
+	 * @see model.ModelInterface#getAllRemoveRequests()
+	 */
+	@Override
+	public synchronized List<Thing> getAllRemoveRequests() {
+		final List<Thing> requests = new ArrayList<Thing>(removeRequests);
+		removeRequests.clear();
+		return requests;
+	}
+	/** 
+	 * @see model.ModelInterface#getAllEvolveRequests()
+	 */
+	@Override
+	public synchronized List<Creature> getAllEvolveRequests() {
+		return getCreatureLeveler().getAllReadyToEvolve();
+	}
+	/** 
+	 * @see model.ModelInterface#evolveCreature(thingFramework.Creature)
+	 */
+	@Override
+	public synchronized Creature evolveCreature(final Creature creature) {
+		if (!creaturesOnBoard.contains(creature) || !creature.containsAttribute(AttributeName.NEXT_EVOLUTIONS))
+			return null;
+		final List<?> nextEvolutions = creature.getAttributeValue(AttributeName.NEXT_EVOLUTIONS);
+		if (nextEvolutions.isEmpty())
+			return null;
+		final String name = nextEvolutions.get(getRandom(Stream.EVOLUTION).nextInt(nextEvolutions.size())).toString();
+		final Creature evolved = ThingFactory.getInstance().generateNewCreature(name, randomStreams);
+		final int totalXP = getCreatureLeveler().getTotalXP(creature);
+		removeThing(creature);
+		addThing(evolved);
+		getCreatureLeveler().setTotalXP(evolved, totalXP);
+		if (DEBUG)
+			System.out.println(creature.getName() + " evolved into " + name);
+		return evolved;
+	}
 	/** 
 	 * @see model.ModelInterface#getAdvancedStats()
 	 */
@@ -624,6 +1006,8 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 		sb.append("Percent chance popularity increases rarity: " + dfDouble.format(creatureGenerator.getPercentChancePopularityModifies()));
 		sb.append("\n");
 		sb.append("Rarity boost metric from popularity: " + creatureGenerator.getPopularityModifier());
+		sb.append("\n");
+		sb.append("Wild " + GuiUtils.getCreatureName() + " reused/generated: " + getCreaturePool().getHits() + "/" + getCreaturePool().getMisses());
 		return sb.toString();
 	}
 	/** 
@@ -656,14 +1040,21 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	 * @return the total number of creatures on the board and in the queue
 	 */
 	synchronized int getNumCreaturesOnBoardAndWaiting() {
-		return numCreatures + foundCreatures.size();
+		return numCreatures + waitingCreatures.size();
 	}
 	/**
 	 * Returns the total number of creatures in the queue
 	 * @return the total number of creatures in the queue
 	 */
 	synchronized int getNumCreaturesWaiting() {
-		return foundCreatures.size();
+		return waitingCreatures.size();
+	}
+	/**
+	 * Returns a number that changes whenever the number of creatures on the board or waiting changes. Doesn't take the board's lock.
+	 * @return the current version of the number of creatures on the board and waiting
+	 */
+	int getCreatureCountVersion() {
+		return creatureCountVersion;
 	}
 	/** 
 	 * @see model.ModelInterface#getShopWindow()
@@ -672,6 +1063,50 @@ public class Board implements Serializable, ModelInterface, ThingObserver {
 	public ShopWindow getShopWindow() {
 		return shopWindow;
 	}
+	/**
+	 * Returns the index of the Things on the board by attribute value, creating it if needed (e.g. after being loaded)
+	 * @return the index of the Things on the board by attribute value
+	 */
+	private synchronized ThingAttributeIndex getAttributeIndex() {
+		if (attributeIndex == null)
+			attributeIndex = new ThingAttributeIndex(thingsOnBoard);
+		return attributeIndex;
+	}
+	/**
+	 * Returns true if the provided Thing is of the kind of Thing the provided GlobalModifierOption applies to
+	 */
+	private static boolean isOfOption(final Thing t, final GlobalModifierOption option) {
+		switch(option) {
+		case ONLY_ITEMS:
+			return t instanceof Item;
+		case ONLY_CREATURES:
+			return t instanceof Creature;
+		default:
+			return true;
+		}
+	}
+	/** 
+	 * @see model.ModelInterface#getRandom(model.RandomStreams.Stream)
+	 */
+	@Override
+	public RandomStream getRandom(final Stream stream) {
+		return randomStreams.get(stream);
+	}
+	/**
+	 * Moves the wild creatures waiting in saves made before the queue held names into waitingCreatures, and gives saves
+	 * made before random numbers were kept new ones
+	 */
+	private void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
+		ois.defaultReadObject();
+		if (randomStreams == null)
+			randomStreams = new RandomStreams(ThreadLocalRandom.current().nextLong());
+		if (waitingCreatures == null) {
+			waitingCreatures = new ArrayDeque<String>();
+			if (foundCreatures != null)
+				foundCreatures.forEach(creature -> waitingCreatures.addLast(creature.getName()));
+		}
+		foundCreatures = null;
+	}
 	
 	
 }
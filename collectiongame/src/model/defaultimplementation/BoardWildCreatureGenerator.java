@@ -2,21 +2,26 @@ package model.defaultimplementation;
 
 import static gameutils.Constants.RAPID_SPAWN;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import attributes.AttributeName;
 import gameutils.GameUtils;
+import gameutils.RandomStream;
 import loaders.ThingFactory;
 import loaders.ThingType;
+import model.RandomStreams.Stream;
 import model.WildCreatureGeneratorInterface;
 
 /**
@@ -90,13 +95,7 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 	 */
 	private static final double PERIOD_BEFORE_CALCULATION = .5;
 	private static final Set<String> legendaryCreatures = ThingFactory.getInstance().getThingsWithAttributeVal(AttributeName.IS_LEGENDARY, true, ThingType.CREATURE);
-	private static final Set<String> nonLegendaryCreatures = ThingFactory.getInstance().getThingsWithAttributeVal(AttributeName.IS_LEGENDARY, false, ThingType.CREATURE);
 
-	/**
-	 * A map from the sum of the chance of a creature being found (out of RUNNING_TOTAL) and all chances
-	 * of creatures loaded in before it, to the name of that creature. This will be in order, sorted by the sum.
-	 */
-	private final TreeMap<Long, String> creatureCumulativeChance = new TreeMap<Long, String>();
 	/**
 	 * A map from the RARITY (NOT CHANCE) to a list of all creatures with that rarity, in order of rarity
 	 */
@@ -104,17 +103,64 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 	/**
 	 * Map from nonlegendary creature names to their RARITY (NOT CHANCE) value
 	 */
-	private final Map<String, Integer> creatureRarity;
+	private Map<String, Integer> creatureRarity;
 	/**
 	 * Legendaries that haven't been generated yet
 	 */
 	private final Set<String> unFoundLegendaries = new HashSet<String>(legendaryCreatures);
+	/*
+	 * Every creature is given an id when the rarities are loaded: non legendary creatures are 0 to numNonLegendary-1, 
+	 * and legendaries follow. The fields below are worked out again from the fields above whenever rarities are loaded.
+	 */
+	/**
+	 * The name of the creature with each id
+	 */
+	private transient String[] creatureNames;
+	/**
+	 * Map from the name of each creature to its id
+	 */
+	private transient Map<String, Integer> creatureIds;
+	/**
+	 * The number of non legendary creatures, all of whose ids are lower than any legendary's
+	 */
+	private transient int numNonLegendary;
+	/**
+	 * The RARITY (NOT CHANCE) of each non legendary creature, by id
+	 */
+	private transient int[] rarities;
+	/**
+	 * Alias table used to find a non legendary creature in constant time, taking into account rarity. A random id is picked,
+	 * then that id is kept if a random number out of runningTotal is below aliasThreshold[id], and alias[id] is used otherwise.
+	 */
+	private transient long[] aliasThreshold;
+	private transient int[] alias;
+	/**
+	 * The ids of the legendaries that haven't been generated yet (those in unFoundLegendaries) in the first
+	 * numUnFoundLegendaries entries, in no particular order
+	 */
+	private transient int[] unFoundLegendaryIds;
+	private transient int numUnFoundLegendaries;
+	/**
+	 * The ids of the creatures that are on the board or waiting to be placed. Null until first needed, as the board may
+	 * not be finished loading when the rarities are.
+	 */
+	private transient BitSet presentIds;
+	/*
+	 * The curves below are only calculated again when what they depend on changes, so that looking for creatures on a tick where
+	 * nothing changed does no calculation. Popularity and gold are compared by value, and the number of creatures by 
+	 * Board.getCreatureCountVersion(), which doesn't need the board's lock. Each curve is kept with the values it was calculated
+	 * for in an immutable holder, and a new holder is published through a volatile field, so that getAdvancedStats can read them
+	 * from the gui thread without the board's lock. Null until the curve is first calculated for the current board state.
+	 */
+	private transient volatile PopularityCurves popularityCurves;
+	private transient volatile PercentChanceFound percentChanceFound;
+	private transient volatile LookForCreaturesPeriod lookForCreaturesPeriod;
 	/**
 	 * This is the value of the total chance rarities of every creature. In other words,
 	 * it is the denominator for determining the percent chance that a certain creature
-	 * will show up (that is the probability will be: getRelativeChanceRarity(creature.rarity)/RUNNING_TOTAL)
+	 * will show up (that is the probability will be: getRelativeChanceRarity(creature.rarity)/runningTotal)
 	 */
-	private final long RUNNING_TOTAL;
+	private long runningTotal;
 	private final Board  holder;
 	/**
 	 * Creates a new WildCreatureGenerator
@@ -122,21 +168,79 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 	 */
 	BoardWildCreatureGenerator(final Board b) { 
 		this.holder = b;
+		loadCreatureRarities();
+	}
+	/** 
+	 * @see model.WildCreatureGeneratorInterface#onTemplatesChanged()
+	 */
+	@Override
+	public void onTemplatesChanged() {
+		loadCreatureRarities();
+	}
+	/**
+	 * Works out the chances again on load, so that a save always uses the rarities of the templates it is loaded with
+	 */
+	private void readObject(final ObjectInputStream ois) throws ClassNotFoundException, IOException {
+		ois.defaultReadObject();
+		loadCreatureRarities();
+		invalidateCurves();
+	}
+	/**
+	 * Makes every curve be calculated again the next time it is needed
+	 */
+	private void invalidateCurves() {
+		popularityCurves = null;
+		percentChanceFound = null;
+		lookForCreaturesPeriod = null;
+	}
+	/**
+	 * Reads the rarity of every non legendary creature from the ThingFactory, and works out the chance of finding each
+	 */
+	private void loadCreatureRarities() {
+		final Set<String> nonLegendaryCreatures = ThingFactory.getInstance().getThingsWithAttributeVal(AttributeName.IS_LEGENDARY, false, ThingType.CREATURE);
 		creatureRarity =
 				ThingFactory.getInstance().<Integer>mapFromSetToAttributeValue(AttributeName.RARITY, ThingType.CREATURE)
 				.entrySet().stream().filter(c -> nonLegendaryCreatures.contains(c.getKey()))
-				.collect(Collectors.toMap(c-> c.getKey(), c-> c.getValue()));
-		RUNNING_TOTAL = calcRunningTotal();
+				.collect(Collectors.toMap(c-> c.getKey(), c-> c.getValue(), (a, b) -> a, TreeMap::new));
+		creatureRaritiesInOrder.clear();
+		assignCreatureIds();
+		runningTotal = calcRunningTotal();
+		buildAliasTable();
+		presentIds = null;
+	}
+	/**
+	 * Gives every creature an id, and works out which legendaries haven't been found yet by id. Ids are given in order of
+	 * name, so that the same seed finds the same creatures every time the game is launched.
+	 */
+	private void assignCreatureIds() {
+		numNonLegendary = creatureRarity.size();
+		creatureNames = new String[numNonLegendary + legendaryCreatures.size()];
+		creatureIds = new HashMap<String, Integer>();
+		rarities = new int[numNonLegendary];
+		int id = 0;
+		for (final Map.Entry<String, Integer> entry: creatureRarity.entrySet()) {
+			rarities[id] = entry.getValue();
+			creatureNames[id] = entry.getKey();
+			creatureIds.put(entry.getKey(), id);
+			id++;
+		}
+		unFoundLegendaryIds = new int[legendaryCreatures.size()];
+		numUnFoundLegendaries = 0;
+		for (final String legendary : new TreeSet<String>(legendaryCreatures)) {
+			creatureNames[id] = legendary;
+			creatureIds.put(legendary, id);
+			if (unFoundLegendaries.contains(legendary))
+				unFoundLegendaryIds[numUnFoundLegendaries++] = id;
+			id++;
+		}
 	}
 	private long calcRunningTotal() {
 		long runningTotal = 0; //running total
 
-		for (final Map.Entry<String, Integer> entry: creatureRarity.entrySet()) {
-			final int rarity = entry.getValue();
-			final String name = entry.getKey();
-			final int percentChance = getRelativeChanceRarity(rarity);
-			runningTotal += percentChance;
-			creatureCumulativeChance.put(runningTotal, name);
+		for (int id = 0; id < numNonLegendary; id++) {
+			final int rarity = rarities[id];
+			final String name = creatureNames[id];
+			runningTotal += getChance(id);
 			if (!creatureRaritiesInOrder.containsKey(rarity)) {
 				final List<String> list = new ArrayList<String>();
 				list.add(name);
@@ -148,44 +252,153 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 		}
 		return runningTotal;
 	}
+	/**
+	 * Builds the alias table for the non legendary creatures (Vose's method). Every chance is scaled by numNonLegendary so 
+	 * that each id's share of the table is exactly runningTotal, and so all the arithmetic is exact.
+	 */
+	private void buildAliasTable() {
+		final int n = numNonLegendary;
+		aliasThreshold = new long[n];
+		alias = new int[n];
+		final long[] scaled = new long[n];
+		final int[] small = new int[n];
+		final int[] large = new int[n];
+		int numSmall = 0;
+		int numLarge = 0;
+		for (int id = 0; id < n; id++) {
+			scaled[id] = getChance(id) * (long) n;
+			if (scaled[id] < runningTotal)
+				small[numSmall++] = id;
+			else
+				large[numLarge++] = id;
+		}
+		while (numSmall > 0 && numLarge > 0) {
+			final int less = small[--numSmall];
+			final int more = large[--numLarge];
+			aliasThreshold[less] = scaled[less];
+			alias[less] = more;
+			scaled[more] -= runningTotal - scaled[less];
+			if (scaled[more] < runningTotal)
+				small[numSmall++] = more;
+			else
+				large[numLarge++] = more;
+		}
+		while (numLarge > 0) {
+			final int id = large[--numLarge];
+			aliasThreshold[id] = runningTotal;
+			alias[id] = id;
+		}
+		while (numSmall > 0) {
+			final int id = small[--numSmall];
+			aliasThreshold[id] = runningTotal;
+			alias[id] = id;
+		}
+	}
+	/**
+	 * Returns the chance (out of runningTotal) of finding the non legendary creature with the provided id
+	 */
+	private int getChance(final int id) {
+		return Math.max(0, getRelativeChanceRarity(rarities[id]));
+	}
+	/**
+	 * Returns the ids of the creatures that are on the board or waiting to be placed, working them out from the board if
+	 * they haven't been yet
+	 */
+	private BitSet getPresentIds() {
+		if (presentIds == null) {
+			final BitSet present = new BitSet(creatureNames.length);
+			for (int id = 0; id < creatureNames.length; id++) {
+				if (!holder.isUniqueCreature(creatureNames[id]))
+					present.set(id);
+			}
+			presentIds = present;
+		}
+		return presentIds;
+	}
+	/** 
+	 * @see model.WildCreatureGeneratorInterface#notifyCreatureNamePresent(java.lang.String)
+	 */
+	@Override
+	public void notifyCreatureNamePresent(final String name) {
+		final Integer id = creatureIds.get(name);
+		if (presentIds != null && id != null)
+			presentIds.set(id);
+	}
+	/** 
+	 * @see model.WildCreatureGeneratorInterface#notifyCreatureNameGone(java.lang.String)
+	 */
+	@Override
+	public void notifyCreatureNameGone(final String name) {
+		final Integer id = creatureIds.get(name);
+		if (presentIds != null && id != null)
+			presentIds.clear(id);
+	}
 	/** 
 	 * @see model.WildCreatureGeneratorInterface#lookForCreature(boolean)
 	 */
 	@Override
-	@SuppressWarnings("unused") //elements could be marked as such if PERCENT_CHANCE_DUPLIATE_SPAWNS != 0
 	public String lookForCreature(final boolean automaticSpawn) {
+		final int id = lookForCreature(automaticSpawn, getPresentIds());
+		return id >= 0 ? creatureNames[id] : null;
+	}
+	/** 
+	 * @see model.WildCreatureGeneratorInterface#lookForCreatures(int, boolean)
+	 */
+	@Override
+	public List<String> lookForCreatures(final int n, final boolean automaticSpawn) {
+		final List<String> names = new ArrayList<String>(n);
+		//creatures found earlier in the batch count as present for the ones after them
+		final BitSet present = (BitSet) getPresentIds().clone();
+		for (int i = 0; i < n; i++) {
+			final int id = lookForCreature(automaticSpawn, present);
+			if (id >= 0) {
+				names.add(creatureNames[id]);
+				present.set(id);
+			}
+		}
+		return names;
+	}
+	/**
+	 * Looks for a single creature
+	 * @param automaticSpawn if true will find a creature regardless of percent chance
+	 * @param present the ids of the creatures that count as already present
+	 * @return the id of the creature found, or -1 if none was found
+	 */
+	@SuppressWarnings("unused") //elements could be marked as such if PERCENT_CHANCE_DUPLIATE_SPAWNS != 0
+	private int lookForCreature(final boolean automaticSpawn, final BitSet present) {
 		//first check if a Creature is even found
 		int attempts = 0;
-		if (!automaticSpawn && !GameUtils.testPercentChance(getPercentChanceCreatureFound()))
-			return null;
-		String name = null;
+		if (!automaticSpawn && !GameUtils.testPercentChance(random(), getPercentChanceCreatureFound()))
+			return -1;
+		int id = -1;
 		do {
 			attempts++;
-			name = changeToLegendaryIfShould(modifyIfShould(findNextCreature()));
-		} while(name != null && !holder.isUniqueCreature(name) && !GameUtils.testPercentChance(PERCENT_CHANCE_DUPLICATE_SPAWNS) && attempts < MAX_ATTEMPTS);
-		if (name != null && (PERCENT_CHANCE_DUPLICATE_SPAWNS != 0 || holder.isUniqueCreature(name))) {
-			return name;
+			id = changeToLegendaryIfShould(modifyIfShould(findNextCreature()));
+		} while(id >= 0 && present.get(id) && !GameUtils.testPercentChance(random(), PERCENT_CHANCE_DUPLICATE_SPAWNS) && attempts < MAX_ATTEMPTS);
+		if (id >= 0 && (PERCENT_CHANCE_DUPLICATE_SPAWNS != 0 || !present.get(id))) {
+			return id;
 		}
-		return null;
+		return -1;
 
 	}
-	private String changeToLegendaryIfShould(final String oldCreature) {
-		String name = oldCreature;
-		if (!unFoundLegendaries.isEmpty() && GameUtils.testPercentChance(holder.getLegendaryChance())) {
-			name = returnSameIfNull(name, findLegendaryCreaturen());		
+	private int changeToLegendaryIfShould(final int oldCreature) {
+		if (numUnFoundLegendaries > 0 && GameUtils.testPercentChance(random(), holder.getLegendaryChance())) {
+			final int legendary = findLegendaryCreature();
+			if (legendary >= 0)
+				return legendary;
 		}
-		return name;
+		return oldCreature;
 	}
-	private String modifyIfShould(final String oldCreature) {
-		String name = oldCreature;
-		if (GameUtils.testPercentChance(getPercentChancePopularityModifies())) {
+	private int modifyIfShould(final int oldCreature) {
+		if (oldCreature >= 0 && GameUtils.testPercentChance(random(), getPercentChancePopularityModifies())) {
 			final int modifier = getPopularityModifier();
 			if (modifier !=0) {
-				final String modifiedCreature = getModifiedCreature(creatureRarity.get(name), modifier);
-				name = returnSameIfNull(name, modifiedCreature);
+				final String modifiedCreature = getModifiedCreature(rarities[oldCreature], modifier);
+				if (modifiedCreature != null)
+					return creatureIds.get(modifiedCreature);
 			}
 		}
-		return name;
+		return oldCreature;
 	}
 	private String getModifiedCreature(final int oldCreatureRarity, final int modifier) {
 		//the set of all keys strictly greater than the rarity 
@@ -195,89 +408,115 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 		for (final Integer rare: tailMap) {
 			if (j==modifier || j==tailMap.size()) { //move up from original rarity by modifier ranks in rarity
 				final List<String> creatures = creatureRaritiesInOrder.get(rare);
-				return creatures.get(ThreadLocalRandom.current().nextInt(creatures.size()));
+				return creatures.get(random().nextInt(creatures.size()));
 			}
 			j++;
 		}
 		return null;
 	}
-	private static String returnSameIfNull(final String original, final String newString) {
-		if (newString == null)
-			return original;
-		return newString;
+	/**
+	 * @return the source of random numbers used when looking for creatures
+	 */
+	private RandomStream random() {
+		return holder.getRandom(Stream.SPAWN);
 	}
 	/**
 	 * Called by lookForCreature(), will find the next creature taking into account rarity
-	 * @return
+	 * @return the id of the creature found, or -1 if there are no creatures to find
 	 */
-	private String findNextCreature() {
-		final long randomNum = ThreadLocalRandom.current().nextLong(0, RUNNING_TOTAL);
+	private int findNextCreature() {
+		if (numNonLegendary == 0 || runningTotal == 0)
+			return -1;
 		//note that chance != rarity, they are inversely proportional
-		Entry<Long, String> entry = creatureCumulativeChance.higherEntry(randomNum);
-		if (entry == null)
-			entry = creatureCumulativeChance.ceilingEntry(randomNum);
-		if (entry == null)
-			entry = creatureCumulativeChance.floorEntry(randomNum);
-		if (entry == null)
-			return null;
-		return entry.getValue();
-	}
-	/**
-	 * @return the found creature, remove it from the unFound list. Returns null if none were found
-	 */
-	private String findLegendaryCreaturen() {
-		final int size = unFoundLegendaries.size();
-		if (size == 0)
-			return null;
-		final int item = ThreadLocalRandom.current().nextInt(size); 
-		int i = 0;
-		String toFind = null;
-		for(final String creatureString : unFoundLegendaries)
-		{
-			if (i == item)
-				toFind = creatureString;
-			i++;
-		}
-		unFoundLegendaries.remove(toFind);
-
-		return toFind;
+		final int id = random().nextInt(numNonLegendary);
+		return random().nextLong(runningTotal) < aliasThreshold[id] ? id : alias[id];
+	}
+	/**
+	 * Finds the next non legendary creature taking into account only rarity (no popularity boosts, legendaries or duplicates)
+	 * @return the name of the creature found, or null if there are no creatures to find
+	 */
+	String findNextCreatureName() {
+		final int id = findNextCreature();
+		return id >= 0 ? creatureNames[id] : null;
+	}
+	/**
+	 * @return the id of the found legendary, removing it from the unFound legendaries. Returns -1 if none were found
+	 */
+	private int findLegendaryCreature() {
+		if (numUnFoundLegendaries == 0)
+			return -1;
+		final int index = random().nextInt(numUnFoundLegendaries); 
+		final int id = unFoundLegendaryIds[index];
+		unFoundLegendaryIds[index] = unFoundLegendaryIds[--numUnFoundLegendaries];
+		unFoundLegendaries.remove(creatureNames[id]);
+		return id;
 	}
 	/** 
 	 * @see model.WildCreatureGeneratorInterface#getPercentChancePopularityModifies()
 	 */
 	@Override
 	public double getPercentChancePopularityModifies() {
-		final double A = 5;
-		final double B = 1.3;
-		final double C = 1;
-		final double D = 10;
-		final double E = .25;
-		return Math.max(MIN_PERCENT_CHANCE_POPULARITY_BOOSTS, Math.min(MAX_PERCENT_CHANCE_POPULARITY_BOOSTS, A*Math.log(Math.pow(holder.getPopularity(), B)+C)+D*Math.pow(holder.getPopularity(), E)));
+		return updatePopularityCurves().percentChancePopularityModifies;
 	}
 	/** 
 	 * @see model.WildCreatureGeneratorInterface#getPopularityModifier()
 	 */
 	@Override
 	public int getPopularityModifier() {
+		return updatePopularityCurves().popularityModifier;
+	}
+	/**
+	 * Calculates the curves that only depend on popularity again if the popularity changed since they were last calculated
+	 * @return the curves for the current popularity
+	 */
+	private PopularityCurves updatePopularityCurves() {
+		final int popularity = holder.getPopularity();
+		PopularityCurves curves = popularityCurves;
+		if (curves == null || popularity != curves.popularity) {
+			curves = new PopularityCurves(popularity, calcPercentChancePopularityModifies(popularity), calcPopularityModifier(popularity));
+			popularityCurves = curves;
+		}
+		return curves;
+	}
+	private static double calcPercentChancePopularityModifies(final int popularity) {
+		final double A = 5;
+		final double B = 1.3;
+		final double C = 1;
+		final double D = 10;
+		final double E = .25;
+		return Math.max(MIN_PERCENT_CHANCE_POPULARITY_BOOSTS, Math.min(MAX_PERCENT_CHANCE_POPULARITY_BOOSTS, A*Math.log(Math.pow(popularity, B)+C)+D*Math.pow(popularity, E)));
+	}
+	private static int calcPopularityModifier(final int popularity) {
 		final double B = 1000;
 		final double R= .001;
 		final double C = 1;
-		return (int) Math.floor((MAX_POPULARITY_BOOST/(1+B*Math.pow(Math.E, -R*holder.getPopularity())))+C);
+		return (int) Math.floor((MAX_POPULARITY_BOOST/(1+B*Math.pow(Math.E, -R*popularity)))+C);
 	}
 	/** 
 	 * @see model.WildCreatureGeneratorInterface#getPercentChanceCreatureFound()
 	 */
 	@Override
 	public double getPercentChanceCreatureFound() {
+		final int creatureVersion = holder.getCreatureCountVersion();
+		final int popularity = holder.getPopularity();
+		final int gold = holder.getGold();
+		PercentChanceFound found = percentChanceFound;
+		if (found == null || popularity != found.popularity || gold != found.gold || creatureVersion != found.creatureVersion) {
+			found = new PercentChanceFound(popularity, gold, creatureVersion, calcPercentChanceCreatureFound(popularity, gold, holder.getNumCreaturesOnBoardAndWaiting()));
+			percentChanceFound = found;
+		}
+		return found.percentChance;
+	}
+	private static double calcPercentChanceCreatureFound(final int popularity, final int gold, final int numCreatures) {
 		final double A = .05;
 		final double B = 10;
 		final double C = 100;
 		final double D =3;
 		final double E = 1;
 		final double F = 100;
-		if (holder.getNumCreaturesOnBoardAndWaiting() <= 2)
+		if (numCreatures <= 2)
 			return 100;
-		final double answer = Math.max(MIN_PERCENT_CHANCE_CREATURE_FOUND, Math.min(MAX_PERCENT_CHANCE_CREATURE_FOUND, (holder.getPopularity()*A)+(holder.getGold()/B)+(C/(D*holder.getNumCreaturesOnBoardAndWaiting()+E))-F));
+		final double answer = Math.max(MIN_PERCENT_CHANCE_CREATURE_FOUND, Math.min(MAX_PERCENT_CHANCE_CREATURE_FOUND, (popularity*A)+(gold/B)+(C/(D*numCreatures+E))-F));
 		return answer;
 	}
 	/** 
@@ -287,48 +526,59 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 	public double getLookForCreaturesPeriod() {
 		if (RAPID_SPAWN)
 			return 1.666e-5;
+		final int creatureVersion = holder.getCreatureCountVersion();
+		final int popularity = holder.getPopularity();
+		final double decrease = holder.getPeriodDecreaseMod();
+		LookForCreaturesPeriod period = lookForCreaturesPeriod;
+		if (period == null || popularity != period.popularity || decrease != period.decrease || creatureVersion != period.creatureVersion) {
+			period = new LookForCreaturesPeriod(popularity, decrease, creatureVersion, calcLookForCreaturesPeriod(popularity, decrease) + getPeriodDemerit(holder.getNumCreaturesWaiting()));
+			lookForCreaturesPeriod = period;
+		}
+		return period.period;
+	}
+	private static double calcLookForCreaturesPeriod(final int popularity, final double periodDecreaseMod) {
 		double periodCalc;
-		if (holder.getPopularity() <= MAX_POP_BEFORE_CALCULATE_PERIOD)
+		if (popularity <= MAX_POP_BEFORE_CALCULATE_PERIOD)
 			periodCalc =  PERIOD_BEFORE_CALCULATION;
-		else if (holder.getPopularity() <= MAX_POP_BEFORE_PERIOD_CALCULATION_SHIFT) {
-			periodCalc = getBasicLookForCreaturePeriod();
+		else if (popularity <= MAX_POP_BEFORE_PERIOD_CALCULATION_SHIFT) {
+			periodCalc = getBasicLookForCreaturePeriod(popularity);
 		}
-		else if (holder.getPopularity() > POP_TO_GET_BONUS_PERIOD_AT) {
+		else if (popularity > POP_TO_GET_BONUS_PERIOD_AT) {
 			periodCalc = BONUS_PERIOD;
 		}
 		else
-			periodCalc =  getAdvancedLookForCreaturePeriod();
-		return periodCalc + getPeriodDemerit();
+			periodCalc =  getAdvancedLookForCreaturePeriod(popularity, periodDecreaseMod);
+		return periodCalc;
 		
 	}
 	/**
 	 * Returns the amount to increase the period by due to an excess of creatures waiting
 	 * @return the amount to increase the period by due to an excess of creatures waiting
 	 */
-	private double getPeriodDemerit() {
-		if (holder.getNumCreaturesWaiting() == 1)
+	private static double getPeriodDemerit(final int numCreaturesWaiting) {
+		if (numCreaturesWaiting == 1)
 			return 0;
 		else
-			return holder.getNumCreaturesWaiting()*2;
+			return numCreaturesWaiting*2;
 	}
 	/**
 	 * moves relatively quickly from 4 to 3.5 
 	 */
-	private double getBasicLookForCreaturePeriod() {
+	private static double getBasicLookForCreaturePeriod(final int popularity) {
 		final double A = 4;
 		final double B = 2000;
-		return Math.max(0, Math.max(MIN_CREATURE_PERIOD, A - holder.getPopularity()/B));
+		return Math.max(0, Math.max(MIN_CREATURE_PERIOD, A - popularity/B));
 	}
 	/**
 	 * moves slowly from 3.5 all the way down to MIN_CREATURE_PERIOD
 	 * value of the form A-(pop/B)^C
 	 */
-	private double getAdvancedLookForCreaturePeriod() {
+	private static double getAdvancedLookForCreaturePeriod(final int popularity, final double periodDecreaseMod) {
 		final double A=  3.65;
 		final double B = 5000; //"length" of near-constant values
 		final double C = 1.1; //steepness of drop
 		
-		return Math.max(0, (Math.max(MIN_CREATURE_PERIOD, A-Math.pow(holder.getPopularity()/B, C))-holder.getPeriodDecreaseMod()));
+		return Math.max(0, (Math.max(MIN_CREATURE_PERIOD, A-Math.pow(popularity/B, C))-periodDecreaseMod));
 	}
 	/**
 	 * @return Percent chance of a rarity out of 100 w.r.t to the other creaturess
@@ -336,6 +586,44 @@ class BoardWildCreatureGenerator implements Serializable, WildCreatureGeneratorI
 	private static int getRelativeChanceRarity(final int rarity) {
 		return 100-rarity;
 	}
-
-
+	/**
+	 * getPercentChancePopularityModifies and getPopularityModifier, and the popularity they were calculated for
+	 */
+	private static final class PopularityCurves {
+		private final int popularity;
+		private final double percentChancePopularityModifies;
+		private final int popularityModifier;
+		private PopularityCurves(final int popularity, final double percentChancePopularityModifies, final int popularityModifier) {
+			this.popularity = popularity;
+			this.percentChancePopularityModifies = percentChancePopularityModifies;
+			this.popularityModifier = popularityModifier;
+		}
+	}
+	/**
+	 * getPercentChanceCreatureFound, and the popularity, gold and creature count version it was calculated for
+	 */
+	private static final class PercentChanceFound {
+		private final int popularity, gold, creatureVersion;
+		private final double percentChance;
+		private PercentChanceFound(final int popularity, final int gold, final int creatureVersion, final double percentChance) {
+			this.popularity = popularity;
+			this.gold = gold;
+			this.creatureVersion = creatureVersion;
+			this.percentChance = percentChance;
+		}
+	}
+	/**
+	 * getLookForCreaturesPeriod, and the popularity, period decrease and creature count version it was calculated for
+	 */
+	private static final class LookForCreaturesPeriod {
+		private final int popularity, creatureVersion;
+		private final double decrease;
+		private final double period;
+		private LookForCreaturesPeriod(final int popularity, final double decrease, final int creatureVersion, final double period) {
+			this.popularity = popularity;
+			this.decrease = decrease;
+			this.creatureVersion = creatureVersion;
+			this.period = period;
+		}
+	}
 }
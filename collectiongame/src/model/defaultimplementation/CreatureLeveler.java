@@ -0,0 +1,247 @@
+package model.defaultimplementation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import attributes.AttributeName;
+import loaders.RequiredXPLookup;
+import thingFramework.Creature;
+import thingFramework.ExperienceGroup;
+
+/**
+ * Levels up the Creatures on the board as game time passes, and keeps track of the ones that reached the level they evolve at.
+ * The Creatures of each ExperienceGroup are kept in their own set of primitive arrays (total XP, level, level of evolution), so that
+ * every update is a single pass over those arrays rather than an Event per Creature. A Creature is only looked at individually
+ * when its level changes.
+ * @author David O'Sullivan
+ *
+ */
+class CreatureLeveler implements Serializable {
+	private static final long serialVersionUID = 1L;
+	/**
+	 * The amount of game time in milliseconds it takes for a Creature on the board to gain one XP
+	 */
+	private static final long MILLIS_PER_XP = 6000;
+	/**
+	 * The ExperienceGroup used for Creatures that don't have one
+	 */
+	private static final ExperienceGroup DEFAULT_EXPERIENCE_GROUP = ExperienceGroup.SLOW;
+	/**
+	 * The level of evolution of Creatures that don't evolve
+	 */
+	private static final int NEVER_EVOLVES = Integer.MAX_VALUE;
+	/**
+	 * The Creatures being leveled, one LevelingGroup for each ExperienceGroup (by ordinal)
+	 */
+	private final LevelingGroup[] groups;
+	/**
+	 * Map from each Creature being leveled to the LevelingGroup it is in
+	 */
+	private final Map<Creature, LevelingGroup> groupOf = new IdentityHashMap<Creature, LevelingGroup>();
+	/**
+	 * Creatures that reached their level of evolution since the last call to getAllReadyToEvolve
+	 */
+	private final List<Creature> readyToEvolve = new ArrayList<Creature>();
+	/**
+	 * The total in game time as of the last update, or -1 if there hasn't been one
+	 */
+	private long lastUpdateTime = -1;
+	/**
+	 * Game time that has passed that hasn't been turned into XP yet
+	 */
+	private long leftoverMillis = 0;
+	/**
+	 * Creates a new CreatureLeveler with no Creatures
+	 */
+	CreatureLeveler() {
+		groups = new LevelingGroup[ExperienceGroup.values().length];
+		for (final ExperienceGroup eg : ExperienceGroup.values())
+			groups[eg.ordinal()] = new LevelingGroup(eg);
+	}
+	/**
+	 * Starts leveling the provided Creature from its current level, giving it a level of 1 if it doesn't have one.
+	 * Does nothing if the Creature is already being leveled.
+	 * @param creature the Creature to level
+	 */
+	void add(final Creature creature) {
+		if (groupOf.containsKey(creature))
+			return;
+		if (!creature.containsAttribute(AttributeName.LEVEL))
+			creature.addAttribute(AttributeName.LEVEL, 1);
+		final RequiredXPLookup lookup = RequiredXPLookup.getInstance();
+		final int level = Math.max(1, Math.min(lookup.getLastLevel(), creature.getAttributeValue(AttributeName.LEVEL)));
+		final ExperienceGroup eg = creature.containsAttribute(AttributeName.EXPERIENCE_GROUP)
+				? creature.getAttributeValue(AttributeName.EXPERIENCE_GROUP) : DEFAULT_EXPERIENCE_GROUP;
+		final LevelingGroup group = groups[eg.ordinal()];
+		groupOf.put(creature, group);
+		group.add(creature, lookup.getMinXPAtLevel(eg, level), level, getLevelOfEvolution(creature));
+		group.checkLevel(group.size-1, readyToEvolve);
+	}
+	/**
+	 * Stops leveling the provided Creature. Does nothing if it isn't being leveled.
+	 * @param creature the Creature to stop leveling
+	 */
+	void remove(final Creature creature) {
+		final LevelingGroup group = groupOf.remove(creature);
+		if (group == null)
+			return;
+		group.remove(creature);
+		readyToEvolve.remove(creature);
+	}
+	/**
+	 * Returns the total XP of the provided Creature
+	 * @param creature the Creature, which must be being leveled
+	 * @return the total XP of the Creature
+	 */
+	int getTotalXP(final Creature creature) {
+		final LevelingGroup group = getGroup(creature);
+		return group.totalXP[group.indexOf(creature)];
+	}
+	/**
+	 * Sets the total XP of the provided Creature, updating its level to match (e.g. to carry XP over to an evolution)
+	 * @param creature the Creature, which must be being leveled
+	 * @param totalXP the new total XP, capped at the most XP the Creature's ExperienceGroup can have
+	 */
+	void setTotalXP(final Creature creature, final int totalXP) {
+		final LevelingGroup group = getGroup(creature);
+		final int index = group.indexOf(creature);
+		final RequiredXPLookup lookup = RequiredXPLookup.getInstance();
+		group.totalXP[index] = Math.max(0, Math.min(totalXP, lookup.getLevel100XP(group.eg)));
+		group.levels[index] = lookup.getLevelFromCurrentXP(group.eg, group.totalXP[index]);
+		group.checkLevel(index, readyToEvolve);
+	}
+	private LevelingGroup getGroup(final Creature creature) {
+		final LevelingGroup group = groupOf.get(creature);
+		if (group == null)
+			throw new IllegalArgumentException(creature.getName() + " isn't being leveled");
+		return group;
+	}
+	/**
+	 * Gives every Creature the XP it earned for the game time that passed since the last update
+	 * @param totalInGameTime the current total in game time
+	 */
+	void update(final long totalInGameTime) {
+		if (lastUpdateTime < 0 || totalInGameTime < lastUpdateTime) {
+			lastUpdateTime = totalInGameTime;
+			return;
+		}
+		leftoverMillis += totalInGameTime - lastUpdateTime;
+		lastUpdateTime = totalInGameTime;
+		if (leftoverMillis < MILLIS_PER_XP)
+			return;
+		final int xpGained = (int) Math.min(leftoverMillis / MILLIS_PER_XP, Integer.MAX_VALUE);
+		leftoverMillis %= MILLIS_PER_XP;
+		for (final LevelingGroup group : groups)
+			group.gainXP(xpGained, readyToEvolve);
+	}
+	/**
+	 * Reads the level of evolution of every Creature being leveled again (e.g. after the templates they were made from changed)
+	 */
+	void refreshLevelsOfEvolution() {
+		for (final LevelingGroup group : groups) {
+			for (int i = 0; i < group.size; i++) {
+				if (!readyToEvolve.contains(group.creatures[i])) {
+					group.evolutionLevels[i] = getLevelOfEvolution(group.creatures[i]);
+					group.checkLevel(i, readyToEvolve);
+				}
+			}
+		}
+	}
+	/**
+	 * Removes and returns all the Creatures that reached their level of evolution since the last call
+	 * @return the Creatures that reached their level of evolution, in the order they reached it (empty if none)
+	 */
+	List<Creature> getAllReadyToEvolve() {
+		final List<Creature> ready = new ArrayList<Creature>(readyToEvolve);
+		readyToEvolve.clear();
+		return ready;
+	}
+	private static int getLevelOfEvolution(final Creature creature) {
+		if (creature.booleanAttributeCheck(AttributeName.HAS_EVOLUTION, true)
+				&& creature.containsAttribute(AttributeName.LEVEL_OF_EVOLUTION)
+				&& creature.containsAttribute(AttributeName.NEXT_EVOLUTIONS)
+				&& !creature.getAttributeValue(AttributeName.NEXT_EVOLUTIONS).isEmpty())
+			return creature.getAttributeValue(AttributeName.LEVEL_OF_EVOLUTION);
+		return NEVER_EVOLVES;
+	}
+	/**
+	 * All the Creatures of a single ExperienceGroup. The Creature at each index has its total XP, level and level of
+	 * evolution at the same index of the other arrays. Removing a Creature moves the last Creature into its place.
+	 */
+	private static final class LevelingGroup implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private static final int INITIAL_CAPACITY = 16;
+		private final ExperienceGroup eg;
+		private Creature[] creatures = new Creature[INITIAL_CAPACITY];
+		private int[] totalXP = new int[INITIAL_CAPACITY];
+		private int[] levels = new int[INITIAL_CAPACITY];
+		private int[] evolutionLevels = new int[INITIAL_CAPACITY];
+		private int size = 0;
+		private final Map<Creature, Integer> indices = new IdentityHashMap<Creature, Integer>();
+		private LevelingGroup(final ExperienceGroup eg) {
+			this.eg = eg;
+		}
+		private void add(final Creature creature, final int xp, final int level, final int evolutionLevel) {
+			if (size == creatures.length) {
+				final int newCapacity = size * 2;
+				creatures = Arrays.copyOf(creatures, newCapacity);
+				totalXP = Arrays.copyOf(totalXP, newCapacity);
+				levels = Arrays.copyOf(levels, newCapacity);
+				evolutionLevels = Arrays.copyOf(evolutionLevels, newCapacity);
+			}
+			creatures[size] = creature;
+			totalXP[size] = xp;
+			levels[size] = level;
+			evolutionLevels[size] = evolutionLevel;
+			indices.put(creature, size);
+			size++;
+		}
+		private void remove(final Creature creature) {
+			final int index = indices.remove(creature);
+			final int last = --size;
+			if (index != last) {
+				creatures[index] = creatures[last];
+				totalXP[index] = totalXP[last];
+				levels[index] = levels[last];
+				evolutionLevels[index] = evolutionLevels[last];
+				indices.put(creatures[index], index);
+			}
+			creatures[last] = null;
+		}
+		private int indexOf(final Creature creature) {
+			return indices.get(creature);
+		}
+		/**
+		 * Adds the XP to every Creature in this group, then updates the Creatures whose level changed
+		 */
+		private void gainXP(final int xp, final List<Creature> readyToEvolve) {
+			if (size == 0)
+				return;
+			final RequiredXPLookup lookup = RequiredXPLookup.getInstance();
+			final int maxXP = lookup.getLevel100XP(eg);
+			for (int i = 0; i < size; i++)
+				totalXP[i] = totalXP[i] >= maxXP - xp ? maxXP : totalXP[i] + xp;
+			if (lookup.updateLevels(eg, totalXP, levels, size) == 0)
+				return;
+			for (int i = 0; i < size; i++)
+				checkLevel(i, readyToEvolve);
+		}
+		/**
+		 * Sets the level attribute of the Creature at the index if it changed, and adds it to readyToEvolve if it
+		 * reached its level of evolution
+		 */
+		private void checkLevel(final int index, final List<Creature> readyToEvolve) {
+			final Creature creature = creatures[index];
+			if (creature.getAttributeValue(AttributeName.LEVEL) != levels[index])
+				creature.setAttributeValue(AttributeName.LEVEL, levels[index]);
+			if (levels[index] >= evolutionLevels[index]) {
+				evolutionLevels[index] = NEVER_EVOLVES;
+				readyToEvolve.add(creature);
+			}
+		}
+	}
+}
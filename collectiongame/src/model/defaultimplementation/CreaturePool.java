@@ -0,0 +1,103 @@
+package model.defaultimplementation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import loaders.ThingFactory;
+import model.RandomStreams;
+import thingFramework.Creature;
+
+/**
+ * Holds on to wild Creatures that were let go without ever being placed, so that they can be reused the next time a
+ * wild Creature of the same name is found instead of generating a new one. A Creature that was never placed
+ * is in the same state as a newly generated one, so it can be handed out again as is.
+ * @author David O'Sullivan
+ *
+ */
+class CreaturePool {
+	/**
+	 * The maximum number of Creatures held on to in total
+	 */
+	private static final int MAX_POOLED = 100;
+	/**
+	 * The maximum number of Creatures of any one name held on to
+	 */
+	private static final int MAX_POOLED_PER_NAME = 5;
+	private final Map<String, Deque<Creature>> pooledCreatures = new HashMap<String, Deque<Creature>>();
+	/**
+	 * The random numbers of the board, which the generated attributes of new Creatures come from
+	 */
+	private final RandomStreams randomStreams;
+	private int numPooled = 0;
+	private long hits = 0;
+	private long misses = 0;
+	/**
+	 * Creates a new, empty CreaturePool
+	 * @param randomStreams the random numbers of the board, which the generated attributes of new Creatures come from
+	 */
+	CreaturePool(final RandomStreams randomStreams) {
+		this.randomStreams = randomStreams;
+	}
+	/**
+	 * Returns a Creature with the provided name, reusing one that was let go if one is present, and generating a new one
+	 * otherwise
+	 * @param name the name of the Creature
+	 * @return a Creature with the provided name, in the same state as a newly generated one
+	 */
+	synchronized Creature obtain(final String name) {
+		final Deque<Creature> creatures = pooledCreatures.get(name);
+		if (creatures != null && !creatures.isEmpty()) {
+			hits++;
+			numPooled--;
+			return creatures.pop();
+		}
+		misses++;
+		return ThingFactory.getInstance().generateNewCreature(name, randomStreams);
+	}
+	/**
+	 * Holds on to the provided Creature so that it can be reused. Should only be called with a Creature that was never placed,
+	 * and that won't be used again by the caller.
+	 * @param creature the Creature that was let go
+	 * @return true if the Creature was held on to, false if the pool was full
+	 */
+	synchronized boolean release(final Creature creature) {
+		if (creature == null || numPooled >= MAX_POOLED)
+			return false;
+		final Deque<Creature> creatures = pooledCreatures.computeIfAbsent(creature.getName(), k -> new ArrayDeque<Creature>());
+		if (creatures.size() >= MAX_POOLED_PER_NAME)
+			return false;
+		creatures.push(creature);
+		numPooled++;
+		return true;
+	}
+	/**
+	 * Lets go of every Creature being held on to, e.g. because the templates they were made from changed
+	 */
+	synchronized void clear() {
+		pooledCreatures.clear();
+		numPooled = 0;
+	}
+	/**
+	 * Returns the number of times a Creature was reused rather than generated
+	 * @return the number of times a Creature was reused rather than generated
+	 */
+	synchronized long getHits() {
+		return hits;
+	}
+	/**
+	 * Returns the number of times a Creature had to be generated as none were available to reuse
+	 * @return the number of times a Creature had to be generated as none were available to reuse
+	 */
+	synchronized long getMisses() {
+		return misses;
+	}
+	/**
+	 * Returns the number of Creatures currently being held on to
+	 * @return the number of Creatures currently being held on to
+	 */
+	synchronized int getNumPooled() {
+		return numPooled;
+	}
+}
@@ -0,0 +1,112 @@
+package model.defaultimplementation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import attributes.AttributeName;
+import modifiers.ModifierTarget;
+import thingFramework.Thing;
+
+/**
+ * An index of the Things on the board by the values of their attributes, so that the Things targeted by a ModifierTarget
+ * (e.g. all Water type creatures) can be found without going through every Thing on the board. An attribute is only indexed
+ * once a ModifierTarget for it is looked up, and from then on is kept up to date as Things are added and removed. Only
+ * meant for indexable targets (see ModifierTarget#isIndexable()). Each Thing stays under the values it had when it was
+ * indexed until it is removed or the index is cleared, so if a Thing's value can change, clear the index afterwards.
+ * @author David O'Sullivan
+ *
+ */
+class ThingAttributeIndex {
+	/**
+	 * For each indexed attribute, map from each value to the Things on the board with that value
+	 */
+	private final Map<AttributeName<?>, Map<Object, Set<Thing>>> thingsByValue = new HashMap<AttributeName<?>, Map<Object, Set<Thing>>>();
+	/**
+	 * For each indexed attribute, map from each Thing to the values it was indexed under, so it can be removed from under
+	 * them even if its value has changed since
+	 */
+	private final Map<AttributeName<?>, Map<Thing, List<Object>>> valuesByThing = new HashMap<AttributeName<?>, Map<Thing, List<Object>>>();
+	/**
+	 * All the Things on the board, used to index an attribute for the first time
+	 */
+	private final Collection<? extends Thing> things;
+	/**
+	 * Creates a new ThingAttributeIndex with no attributes indexed
+	 * @param things all the Things on the board. Should be kept up to date by the caller, who must also call add and remove
+	 * whenever it changes.
+	 */
+	ThingAttributeIndex(final Collection<? extends Thing> things) {
+		this.things = things;
+	}
+	/**
+	 * Adds the provided Thing under each indexed attribute
+	 * @param thing the Thing added to the board
+	 */
+	void add(final Thing thing) {
+		thingsByValue.forEach((attributeName, index) -> addToIndex(index, valuesByThing.get(attributeName), attributeName, thing));
+	}
+	/**
+	 * Removes the provided Thing from under each indexed attribute, using the values it was indexed under
+	 * @param thing the Thing removed from the board
+	 */
+	void remove(final Thing thing) {
+		thingsByValue.forEach((attributeName, index) -> {
+			final List<Object> keys = valuesByThing.get(attributeName).remove(thing);
+			if (keys == null)
+				return;
+			for (final Object key : keys) {
+				final Set<Thing> withKey = index.get(key);
+				if (withKey != null && withKey.remove(thing) && withKey.isEmpty())
+					index.remove(key);
+			}
+		});
+	}
+	/**
+	 * Returns the Things on the board that are targeted by the provided ModifierTarget, indexing its attribute if it isn't yet
+	 * @param target the ModifierTarget, which should be indexable
+	 * @return a new set of the Things that are targeted, in the order they were indexed
+	 */
+	Set<Thing> getMatching(final ModifierTarget target) {
+		final Map<Object, Set<Thing>> index = thingsByValue.computeIfAbsent(target.getAttributeName(), this::buildIndex);
+		final Set<Thing> matching = new LinkedHashSet<Thing>();
+		for (final Object value : target.getValues()) {
+			final Set<Thing> withValue = index.get(value);
+			if (withValue != null)
+				matching.addAll(withValue);
+		}
+		return matching;
+	}
+	/**
+	 * Stops indexing every attribute, e.g. because the values of the Things on the board may have changed. They will be
+	 * indexed again the next time they are looked up.
+	 */
+	void clear() {
+		thingsByValue.clear();
+		valuesByThing.clear();
+	}
+	private Map<Object, Set<Thing>> buildIndex(final AttributeName<?> attributeName) {
+		final Map<Object, Set<Thing>> index = new HashMap<Object, Set<Thing>>();
+		final Map<Thing, List<Object>> keysOfThings = new HashMap<Thing, List<Object>>();
+		for (final Thing thing : things)
+			addToIndex(index, keysOfThings, attributeName, thing);
+		valuesByThing.put(attributeName, keysOfThings);
+		return index;
+	}
+	/**
+	 * Adds the provided Thing to the index under each of its values for the attribute, and records those values (copied,
+	 * as for sets of enums they are a view of the set)
+	 */
+	private static void addToIndex(final Map<Object, Set<Thing>> index, final Map<Thing, List<Object>> keysOfThings, final AttributeName<?> attributeName, final Thing thing) {
+		if (!thing.containsAttribute(attributeName))
+			return;
+		final List<Object> keys = new ArrayList<Object>(ModifierTarget.getKeys(thing.getAttributeValue(attributeName)));
+		for (final Object key : keys)
+			index.computeIfAbsent(key, k -> new LinkedHashSet<Thing>()).add(thing);
+		keysOfThings.put(thing, keys);
+	}
+}
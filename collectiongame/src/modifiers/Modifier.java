@@ -23,6 +23,10 @@ public final class Modifier implements Serializable {
 	private final SerializablePredicate<Thing> shouldModify;
 	private final SerializableConsumer<Thing> modification;
 	private final SerializableConsumer<Thing> reverseModification;
+	/**
+	 * The Things this modifier should modify, or null if it isn't targeted at particular attribute values
+	 */
+	private final ModifierTarget target;
 	private long timeStart = System.currentTimeMillis();
 	/**
 	 * Creates a new Modifier
@@ -58,13 +62,27 @@ public final class Modifier implements Serializable {
 	 * @param reverseModification what should happen to the thing when the modifier is removed
 	 */
 	public Modifier (final long lifeInMillis, final SerializablePredicate<Thing> shouldModify, final SerializableConsumer<Thing> modification, final SerializableConsumer<Thing> reverseModification) {
+		this(lifeInMillis, shouldModify, null, modification, reverseModification);
+	}
+	/**
+	 * Creates a new Modifier with a lifetime that only modifies the Things with particular attribute values
+	 * @param lifeInMillis how long the modifier should ask in milliseconds
+	 * @param target the Things that should be modified
+	 * @param modification what should happen to the thing when the modifier is applied
+	 * @param reverseModification what should happen to the thing when the modifier is removed
+	 */
+	public Modifier (final long lifeInMillis, final ModifierTarget target, final SerializableConsumer<Thing> modification, final SerializableConsumer<Thing> reverseModification) {
+		this(lifeInMillis, target::matches, target, modification, reverseModification);
+	}
+	private Modifier (final long lifeInMillis, final SerializablePredicate<Thing> shouldModify, final ModifierTarget target, final SerializableConsumer<Thing> modification, final SerializableConsumer<Thing> reverseModification) {
 		this.lifeInMillis = lifeInMillis;
 		this.shouldModify = shouldModify;
+		this.target = target;
 		this.modification = modification;
 		this.reverseModification = reverseModification;
 	}
 	private Modifier(final Modifier m) {
-		this(m.lifeInMillis, m.shouldModify, m.modification, m.reverseModification);
+		this(m.lifeInMillis, m.shouldModify, m.target, m.modification, m.reverseModification);
 	}
 	/**
 	 * Sets the start time for this modifier, this is used to detemine when the modifier is done if it has a lifetime
@@ -132,6 +150,14 @@ public final class Modifier implements Serializable {
 	public Modifier makeCopy() {
 		return new Modifier(this);
 	}
+	/**
+	 * Returns the Things this modifier should modify, if it is targeted at particular attribute values. Only the
+	 * Things that match the target need to be checked with shouldModify.
+	 * @return the target of this modifier, or null if it isn't targeted
+	 */
+	public ModifierTarget getTarget() {
+		return target;
+	}
 	/**
 	 * Get the lifetime of this modifier in milliseconds
 	 * @return the lifetime of this modifier in milliseconds
@@ -0,0 +1,100 @@
+package modifiers;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import attributes.AttributeName;
+import gameutils.EnumSetHolder;
+import thingFramework.Thing;
+
+/**
+ * The Things a Modifier should modify, described as the values a single attribute must have (e.g. Water or Grass type
+ * creatures). The values are parsed once, when this is created, rather than every time a Thing is checked. For attributes
+ * whose values are sets of enums (e.g. type), a Thing is targeted if its set contains any of the values; otherwise its value
+ * must equal one of them.
+ * @author David O'Sullivan
+ *
+ */
+public final class ModifierTarget implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private final AttributeName<?> attributeName;
+	/**
+	 * The values a Thing's attribute can have (or for sets of enums, contain) to be targeted
+	 */
+	private final Set<Object> values;
+	/**
+	 * Creates a new ModifierTarget
+	 * @param attributeName the name of the attribute
+	 * @param acceptableValues the string representations of the values that the attribute can have to be targeted
+	 */
+	public ModifierTarget(final AttributeName<?> attributeName, final String... acceptableValues) {
+		this.attributeName = attributeName;
+		final Set<Object> values = new HashSet<Object>();
+		for (final String value : acceptableValues)
+			values.addAll(getKeys(attributeName.parseValue(value)));
+		this.values = Collections.unmodifiableSet(values);
+	}
+	/**
+	 * Returns true if the provided Thing is targeted
+	 * @param t the Thing to check
+	 * @return true if the Thing has the attribute and its value is one of the targeted values
+	 */
+	public boolean matches(final Thing t) {
+		if (!t.containsAttribute(attributeName))
+			return false;
+		for (final Object key : getKeys(t.getAttributeValue(attributeName))) {
+			if (values.contains(key))
+				return true;
+		}
+		return false;
+	}
+	/**
+	 * Returns true if the targeted values are categories (enums or strings) rather than amounts, so that Things can be
+	 * indexed by them
+	 * @return true if the targeted values are categories
+	 */
+	public boolean isIndexable() {
+		if (values.isEmpty())
+			return false;
+		for (final Object value : values) {
+			if (!(value instanceof Enum || value instanceof String))
+				return false;
+		}
+		return true;
+	}
+	/**
+	 * @return the name of the attribute that is targeted
+	 */
+	public AttributeName<?> getAttributeName() {
+		return attributeName;
+	}
+	/**
+	 * @return an unmodifiable set of the values that are targeted
+	 */
+	public Set<Object> getValues() {
+		return values;
+	}
+	/**
+	 * Returns the values that the provided attribute value is matched by: every enum for a set of enums, or otherwise
+	 * the value itself
+	 * @param attributeValue the value of an attribute
+	 * @return the values that the attribute value is matched by (empty if null)
+	 */
+	public static Collection<?> getKeys(final Object attributeValue) {
+		if (attributeValue == null)
+			return Collections.emptySet();
+		if (attributeValue instanceof EnumSetHolder)
+			return ((EnumSetHolder<?>) attributeValue).viewValues();
+		return Collections.singleton(attributeValue);
+	}
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return attributeName + " in " + values;
+	}
+}
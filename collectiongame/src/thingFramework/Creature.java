@@ -6,6 +6,7 @@ import attributes.Attribute;
 import attributes.AttributeCharacteristic;
 import attributes.attributegenerators.AttributeGenerator;
 import effects.Eventful;
+import gameutils.RandomStream;
 import interfaces.Imagable;
 import model.ThingObserver;
 
@@ -83,11 +84,11 @@ public class Creature extends Thing implements Serializable, Eventful, Imagable
 		return !attribute.hasCharacteristic(AttributeCharacteristic.ITEMONLY);
 	}
 	/** 
-	 * @see thingFramework.Thing#addGeneratedAttributes(attributes.attributegenerators.AttributeGenerator)
+	 * @see thingFramework.Thing#addGeneratedAttributes(attributes.attributegenerators.AttributeGenerator, gameutils.RandomStream)
 	 */
 	@Override
-	public void addGeneratedAttributes(final AttributeGenerator generator) {
-		generator.addAttributes(this);
+	public void addGeneratedAttributes(final AttributeGenerator generator, final RandomStream random) {
+		generator.addAttributes(this, random);
 	}
 	
 
@@ -7,6 +7,7 @@ import attributes.AttributeCharacteristic;
 import attributes.attributegenerators.AttributeGenerator;
 import effects.Event;
 import effects.Eventful;
+import gameutils.RandomStream;
 import interfaces.Imagable;
 import model.ThingObserver;
 
@@ -96,11 +97,11 @@ public class Item extends Thing implements Serializable, Eventful, Imagable{
 		return !attribute.hasCharacteristic(AttributeCharacteristic.CREATUREONLY);
 	}
 	/** 
-	 * @see thingFramework.Thing#addGeneratedAttributes(attributes.attributegenerators.AttributeGenerator)
+	 * @see thingFramework.Thing#addGeneratedAttributes(attributes.attributegenerators.AttributeGenerator, gameutils.RandomStream)
 	 */
 	@Override
-	public void addGeneratedAttributes(final AttributeGenerator generator) {
-		generator.addAttributes(this);
+	public void addGeneratedAttributes(final AttributeGenerator generator, final RandomStream random) {
+		generator.addAttributes(this, random);
 	}
 
 
@@ -1,5 +1,7 @@
 package thingFramework;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -17,6 +19,8 @@ import attributes.AttributeName;
 import attributes.ParseType;
 import attributes.attributegenerators.AttributeGenerator;
 import effects.Event;
+import effects.EventManager;
+import gameutils.RandomStream;
 import effects.Eventful;
 import interfaces.Imagable;
 import interfaces.SerializablePredicate;
@@ -39,6 +43,17 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	private final AttributeManager attributes;
 	private final ModelAttributeManager modelAttributeManager;
 	private final List<Event> eventList= new ArrayList<Event>();
+	private transient EventManager eventManager;
+	/**
+	 * Events shared with the template this Thing was made from. These are only copied into eventList once this 
+	 * Thing's events are actually needed (e.g. when it is placed), so that Things which are never placed don't pay for them.
+	 */
+	private transient List<Event> templateEvents;
+	/**
+	 * The events in eventList that were copied from the template this Thing was made from, so that they can be replaced
+	 * if the template changes
+	 */
+	private List<Event> eventsFromTemplate;
 	private final Set<Modifier> modifiers = new HashSet<Modifier>();
 	/**
 	 * Creates a new Thing with no name, image, modelAttributeManager, or attributes, and with the provided events
@@ -114,8 +129,62 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	 */
 	@Override
 	public List<Event> getEvents() {
+		copyTemplateEvents();
 		return eventList;
 	}
+	/**
+	 * Gives this Thing the events of the template it was made from. Rather than copying the events now, they are shared 
+	 * with the template until this Thing's events are needed. 
+	 * @param events the events of the template. These should never be changed. 
+	 */
+	public void addTemplateEvents(final List<Event> events) {
+		copyTemplateEvents();
+		if (events != null && !events.isEmpty())
+			templateEvents = events;
+		if (eventManager != null)
+			copyTemplateEvents();
+	}
+	/**
+	 * Copies any events still shared with the template into eventList
+	 */
+	private void copyTemplateEvents() {
+		if (templateEvents == null)
+			return;
+		final List<Event> events = templateEvents;
+		templateEvents = null;
+		if (eventsFromTemplate == null)
+			eventsFromTemplate = new ArrayList<Event>();
+		events.forEach(e -> {
+			if (e != null) {
+				final Event copy = e.makeCopy();
+				eventsFromTemplate.add(copy);
+				addToEventList(copy);
+			}
+		});
+	}
+	/**
+	 * Replaces the events this Thing got from its template with copies of the provided template events. If this Thing is on
+	 * a model, the old events are marked for removal (so they are removed as if they removed themselves) and the new events
+	 * are added as if they were just placed.
+	 * @param events the new events of the template. These should never be changed. 
+	 */
+	public void replaceTemplateEvents(final List<Event> events) {
+		if (templateEvents != null) {
+			templateEvents = null;
+			addTemplateEvents(events);
+			return;
+		}
+		if (eventsFromTemplate != null) {
+			for (final Event e : eventsFromTemplate) {
+				if (eventManager != null)
+					e.markForRemoval();
+				else
+					eventList.remove(e);
+			}
+			eventsFromTemplate = null;
+		}
+		addTemplateEvents(events);
+	}
 	/**
 	 * Returns a copy of this thing Note that this does NOT copy events. (It does however create new model attribute
 	 * events)
@@ -164,10 +233,11 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 		return attributes.containsAttribute(name);
 	}
 	/**
-	 * Adds attributes as generated by the provided AttributeGenerator
+	 * Adds attributes as generated by the provided AttributeGenerator, replacing any it generated before
 	 * @param generator
+	 * @param random the random numbers to generate the attributes from
 	 */
-	public abstract void addGeneratedAttributes(AttributeGenerator generator);
+	public abstract void addGeneratedAttributes(AttributeGenerator generator, RandomStream random);
 	/**
 	 * Validate the provided attribute to ensure it can be added to this Thing
 	 * @param attribute the attribute to validate
@@ -277,10 +347,13 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	 */
 	@Override
 	public void confirmEventRemovals(final Collection<Event> events) {
+		copyTemplateEvents();
 		events.forEach(e -> {
 			if (!e.wasMarkedForRemoval())
 				throw new IllegalStateException("Event " + e + " should not have been confirmed for removal");
 			final boolean removed = eventList.remove(e);
+			if (eventsFromTemplate != null)
+				eventsFromTemplate.remove(e);
 			if (!removed)
 				throw new IllegalStateException("Event " + e + " removal was confirmed, but was not present in eventlist");
 			
@@ -365,6 +438,14 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	public final String getName() {
 		return name;
 	}
+	/**
+	 * Returns a number that changes whenever the description (toString()) of this Thing may have changed, without building
+	 * the description
+	 * @return the current version of the description
+	 */
+	public final long getDescriptionVersion() {
+		return attributes == null ? 0 : attributes.getDescriptionVersion();
+	}
 	/**
 	 * @return Name as well as description attribute
 	 * @see java.lang.Object#toString()
@@ -387,8 +468,19 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	 */
 	@Override
 	public void addToEventList(final Event e) {
+		copyTemplateEvents();
 		eventList.add(e);
 		e.setCreator(this);
+		if (eventManager != null)
+			eventManager.notifyEventAdded(this, e);
+	}
+	/** 
+	 * @see effects.Eventful#setEventManager(effects.EventManager)
+	 */
+	@Override
+	public void setEventManager(final EventManager manager) {
+		copyTemplateEvents();
+		this.eventManager = manager;
 	}
 	/**
 	 * Sets the extra description of the attribute with the provided name
@@ -398,6 +490,10 @@ public abstract class Thing implements Serializable, Eventful, Imagable{
 	public void setExtraDescription(final AttributeName<?> attributeName, final String extraDescription) {
 		attributes.setAttributeExtraDescription(attributeName, extraDescription);
 	}
+	private void writeObject(final ObjectOutputStream oos) throws IOException {
+		copyTemplateEvents();
+		oos.defaultWriteObject();
+	}
 
 	
 }